@@ -4,6 +4,8 @@ import com.metasoft.restyle.platform.business.infrastructure.persistance.jpa.Bus
 import com.metasoft.restyle.platform.business.domain.model.aggregates.Business;
 import com.metasoft.restyle.platform.business.domain.model.commands.CreateBusinessCommand;
 import com.metasoft.restyle.platform.business.domain.services.BusinessCommandService;
+import com.metasoft.restyle.platform.business.infrastructure.search.BusinessSearchIndex;
+import com.metasoft.restyle.platform.shared.infrastructure.persistence.jpa.constraints.UniqueConstraintViolations;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -12,18 +14,19 @@ import java.util.Optional;
 public class BusinessCommandServiceImpl implements BusinessCommandService {
 
     private final BusinessRepository businessRepository;
+    private final BusinessSearchIndex businessSearchIndex;
 
-    public BusinessCommandServiceImpl(BusinessRepository businessRepository) {
+    public BusinessCommandServiceImpl(BusinessRepository businessRepository, BusinessSearchIndex businessSearchIndex) {
         this.businessRepository = businessRepository;
+        this.businessSearchIndex = businessSearchIndex;
     }
 
     @Override
     public Optional<Business> handle(CreateBusinessCommand command) {
-        if (businessRepository.existsByName(command.name())) {
-            throw new IllegalArgumentException("Business with same name already exists");
-        }
         var business = new Business(command);
-        var createdBusiness = businessRepository.save(business);
+        var createdBusiness = UniqueConstraintViolations.insertOrThrow(() -> businessRepository.saveAndFlush(business),
+                Business.NAME_UNIQUE_CONSTRAINT, () -> new IllegalArgumentException("Business with same name already exists"));
+        businessSearchIndex.index(createdBusiness);
         return Optional.of(createdBusiness);
     }
 }
@@ -0,0 +1,41 @@
+package com.metasoft.restyle.platform.business.application.internal.eventhandlers;
+
+import com.metasoft.restyle.platform.business.domain.model.queries.GetAllBusinessesQuery;
+import com.metasoft.restyle.platform.business.domain.services.BusinessQueryService;
+import com.metasoft.restyle.platform.business.infrastructure.search.BusinessSearchIndex;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Builds the business search index from the database once the application is ready. Each business is detached once
+ * indexed, so the persistence context does not grow with the number of businesses.
+ */
+@Service
+public class BusinessSearchIndexRebuildEventHandler {
+    private final Logger LOGGER = LoggerFactory.getLogger(BusinessSearchIndexRebuildEventHandler.class);
+
+    private final BusinessQueryService businessQueryService;
+    private final BusinessSearchIndex businessSearchIndex;
+    private final EntityManager entityManager;
+
+    public BusinessSearchIndexRebuildEventHandler(BusinessQueryService businessQueryService, BusinessSearchIndex businessSearchIndex, EntityManager entityManager) {
+        this.businessQueryService = businessQueryService;
+        this.businessSearchIndex = businessSearchIndex;
+        this.entityManager = entityManager;
+    }
+
+    @EventListener
+    @Transactional(readOnly = true)
+    public void on(ApplicationReadyEvent event) {
+        var startedAt = System.currentTimeMillis();
+        try (var businesses = businessQueryService.stream(new GetAllBusinessesQuery())) {
+            businessSearchIndex.rebuild(businesses.peek(entityManager::detach));
+        }
+        LOGGER.info("Business search index rebuilt with {} businesses in {} ms", businessSearchIndex.size(), System.currentTimeMillis() - startedAt);
+    }
+}
@@ -4,19 +4,30 @@ import com.metasoft.restyle.platform.business.domain.model.queries.GetAllBusines
 import com.metasoft.restyle.platform.business.infrastructure.persistance.jpa.BusinessRepository;
 import com.metasoft.restyle.platform.business.domain.model.aggregates.Business;
 import com.metasoft.restyle.platform.business.domain.model.queries.GetBusinessByIdQuery;
+import com.metasoft.restyle.platform.business.domain.model.queries.SearchBusinessesQuery;
 import com.metasoft.restyle.platform.business.domain.services.BusinessQueryService;
+import com.metasoft.restyle.platform.business.infrastructure.search.BusinessSearchHit;
+import com.metasoft.restyle.platform.business.infrastructure.search.BusinessSearchIndex;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Transactional(readOnly = true)
 public class BusinessQueryServiceImpl implements BusinessQueryService {
 
     private final BusinessRepository businessRepository;
+    private final BusinessSearchIndex businessSearchIndex;
 
-    public BusinessQueryServiceImpl(BusinessRepository businessRepository) {
+    public BusinessQueryServiceImpl(BusinessRepository businessRepository, BusinessSearchIndex businessSearchIndex) {
         this.businessRepository = businessRepository;
+        this.businessSearchIndex = businessSearchIndex;
     }
 
     @Override
@@ -28,4 +39,18 @@ public class BusinessQueryServiceImpl implements BusinessQueryService {
     public List<Business> handle(GetAllBusinessesQuery query) {
         return businessRepository.findAll();
     }
+
+    @Override
+    public Stream<Business> stream(GetAllBusinessesQuery query) {
+        return businessRepository.streamAll();
+    }
+
+    // Ranks the businesses in memory, then loads the matches in a single query and puts them back in rank order
+    @Override
+    public List<Business> handle(SearchBusinessesQuery query) {
+        var ids = businessSearchIndex.search(query.text(), query.limit()).stream().map(BusinessSearchHit::businessId).toList();
+        if (ids.isEmpty()) return List.of();
+        var businesses = businessRepository.findAllById(ids).stream().collect(Collectors.toMap(Business::getId, Function.identity()));
+        return ids.stream().map(businesses::get).filter(Objects::nonNull).toList();
+    }
 }
@@ -1,20 +1,30 @@
 package com.metasoft.restyle.platform.business.domain.model.aggregates;
 
 import com.metasoft.restyle.platform.business.domain.model.commands.CreateBusinessCommand;
+import com.metasoft.restyle.platform.shared.infrastructure.persistence.jpa.ids.PooledSequenceIdGenerator;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.data.domain.AbstractAggregateRoot;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Getter
 @Setter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = Business.NAME_UNIQUE_CONSTRAINT, columnNames = "name"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "businesses")
 @EntityListeners(AuditingEntityListener.class)
 public class Business  extends AbstractAggregateRoot<Business> {
 
+    public static final String NAME_UNIQUE_CONSTRAINT = "uk_businesses_name";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = PooledSequenceIdGenerator.NAME)
+    @GenericGenerator(name = PooledSequenceIdGenerator.NAME, type = PooledSequenceIdGenerator.class)
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,17 @@
+package com.metasoft.restyle.platform.business.domain.model.queries;
+
+/**
+ * Query for the businesses that best match some words, best match first.
+ * @param text the words to search for in the name, expertise, city and description of the businesses
+ * @param limit the maximum number of businesses to return
+ */
+public record SearchBusinessesQuery(String text, int limit) {
+    public SearchBusinessesQuery {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Text cannot be blank");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+    }
+}
@@ -3,12 +3,16 @@ package com.metasoft.restyle.platform.business.domain.services;
 import com.metasoft.restyle.platform.business.domain.model.aggregates.Business;
 import com.metasoft.restyle.platform.business.domain.model.queries.GetAllBusinessesQuery;
 import com.metasoft.restyle.platform.business.domain.model.queries.GetBusinessByIdQuery;
+import com.metasoft.restyle.platform.business.domain.model.queries.SearchBusinessesQuery;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BusinessQueryService {
 
     Optional<Business> handle(GetBusinessByIdQuery query);
     List<Business> handle(GetAllBusinessesQuery query);
+    Stream<Business> stream(GetAllBusinessesQuery query);
+    List<Business> handle(SearchBusinessesQuery query);
 }
@@ -1,12 +1,17 @@
 package com.metasoft.restyle.platform.business.infrastructure.persistance.jpa;
 
 import com.metasoft.restyle.platform.business.domain.model.aggregates.Business;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.NonNullApi;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @NonNullApi
 @Repository
@@ -15,4 +20,8 @@ public interface BusinessRepository extends JpaRepository<Business, Long> {
     boolean existsByName(@NonNull String name);
 
     Optional<Business> findById(@NonNull Long id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select e from Business e")
+    Stream<Business> streamAll();
 }
@@ -0,0 +1,9 @@
+package com.metasoft.restyle.platform.business.infrastructure.search;
+
+/**
+ * A business matching a search.
+ * @param businessId the id of the business
+ * @param score the BM25 score of the business for the search
+ */
+public record BusinessSearchHit(Long businessId, double score) {
+}
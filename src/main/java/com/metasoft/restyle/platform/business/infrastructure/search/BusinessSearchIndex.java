@@ -0,0 +1,242 @@
+package com.metasoft.restyle.platform.business.infrastructure.search;
+
+import com.metasoft.restyle.platform.business.domain.model.aggregates.Business;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Business Search Index.
+ * <p>
+ * This class keeps an in-memory inverted index over the name, expertise, city and description of every business and
+ * ranks matches with BM25. A term found in the name counts three times, and one found in the expertise or the city
+ * twice, so a business named after the searched words ranks above one that only mentions them in its description.
+ * </p>
+ * <p>
+ * Businesses are added as they are created and the whole index is rebuilt from the database at startup. A rebuild
+ * fills a new index while searches keep using the current one; businesses added in the meantime are also added to the
+ * new index before it replaces the current one. Indexing a business that is already indexed replaces it. As in most
+ * inverted indexes, a replaced business keeps counting towards the term statistics until the next rebuild.
+ * </p>
+ */
+@Component
+public class BusinessSearchIndex {
+
+    private static final double K1 = 1.2;
+
+    private static final double B = 0.75;
+
+    private static final int NAME_WEIGHT = 3;
+
+    private static final int EXPERTISE_WEIGHT = 2;
+
+    private static final int CITY_WEIGHT = 2;
+
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Segment segment = new Segment();
+
+    private List<Document> pending;
+
+    /**
+     * Adds a business to the index, replacing it when it is already indexed.
+     * @param business The business, which must have an id.
+     */
+    public void index(Business business) {
+        var document = documentOf(business);
+        lock.writeLock().lock();
+        try {
+            segment.add(document);
+            if (pending != null) pending.add(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the whole index with the given businesses.
+     * @param businesses The businesses to index. The stream is consumed but not closed.
+     */
+    public synchronized void rebuild(Stream<Business> businesses) {
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        var rebuilt = new Segment();
+        try {
+            businesses.forEach(business -> rebuilt.add(documentOf(business)));
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        lock.writeLock().lock();
+        try {
+            pending.forEach(rebuilt::add);
+            segment = rebuilt;
+            pending = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the businesses that best match the given text.
+     * @param text The words to search for.
+     * @param limit The maximum number of businesses to return.
+     * @return The matching businesses, best match first.
+     */
+    public List<BusinessSearchHit> search(String text, int limit) {
+        var terms = new LinkedHashSet<>(SearchTextAnalyzer.analyze(text));
+        if (terms.isEmpty() || limit < 1) return List.of();
+        lock.readLock().lock();
+        try {
+            return segment.search(terms, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed businesses.
+     * @return The number of businesses.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segment.ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Document documentOf(Business business) {
+        var termFrequencies = new HashMap<String, Integer>();
+        int length = addTerms(termFrequencies, business.getName(), NAME_WEIGHT)
+                + addTerms(termFrequencies, business.getExpertise(), EXPERTISE_WEIGHT)
+                + addTerms(termFrequencies, business.getCity(), CITY_WEIGHT)
+                + addTerms(termFrequencies, business.getDescription(), DESCRIPTION_WEIGHT);
+        return new Document(business.getId(), termFrequencies, length);
+    }
+
+    private static int addTerms(Map<String, Integer> termFrequencies, String text, int weight) {
+        var terms = SearchTextAnalyzer.analyze(text);
+        terms.forEach(term -> termFrequencies.merge(term, weight, Integer::sum));
+        return terms.size() * weight;
+    }
+
+    private record Document(Long id, Map<String, Integer> termFrequencies, int length) {
+    }
+
+    /**
+     * The postings of every term and the length of every document, by document ordinal. Replaced documents are marked
+     * as deleted and skipped when searching.
+     */
+    private static final class Segment {
+
+        private final Map<String, Postings> postings = new HashMap<>();
+
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+
+        private final BitSet deleted = new BitSet();
+
+        private long[] ids = new long[64];
+
+        private int[] lengths = new int[64];
+
+        private int documentCount;
+
+        private long totalLength;
+
+        void add(Document document) {
+            var previous = ordinals.get(document.id());
+            if (previous != null) deleted.set(previous);
+            if (documentCount == ids.length) {
+                ids = Arrays.copyOf(ids, documentCount * 2);
+                lengths = Arrays.copyOf(lengths, documentCount * 2);
+            }
+            int ordinal = documentCount++;
+            ids[ordinal] = document.id();
+            lengths[ordinal] = document.length();
+            totalLength += document.length();
+            ordinals.put(document.id(), ordinal);
+            document.termFrequencies().forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new Postings()).add(ordinal, frequency));
+        }
+
+        List<BusinessSearchHit> search(Iterable<String> terms, int limit) {
+            if (documentCount == 0) return List.of();
+            double averageLength = Math.max((double) totalLength / documentCount, 1);
+            var scores = new double[documentCount];
+            var matched = new BitSet(documentCount);
+            for (var term : terms) {
+                var termPostings = postings.get(term);
+                if (termPostings == null) continue;
+                double idf = Math.log(1 + (documentCount - termPostings.size + 0.5) / (termPostings.size + 0.5));
+                for (int i = 0; i < termPostings.size; i++) {
+                    int ordinal = termPostings.ordinals[i];
+                    double frequency = termPostings.frequencies[i];
+                    double norm = K1 * (1 - B + B * lengths[ordinal] / averageLength);
+                    scores[ordinal] += idf * frequency * (K1 + 1) / (frequency + norm);
+                    matched.set(ordinal);
+                }
+            }
+            matched.andNot(deleted);
+            Comparator<Integer> worstFirst = Comparator.<Integer>comparingDouble(ordinal -> scores[ordinal])
+                    .thenComparing(ordinal -> ids[ordinal], Comparator.reverseOrder());
+            var best = new PriorityQueue<>(worstFirst);
+            for (int ordinal = matched.nextSetBit(0); ordinal >= 0; ordinal = matched.nextSetBit(ordinal + 1)) {
+                if (best.size() < limit) {
+                    best.add(ordinal);
+                } else if (worstFirst.compare(ordinal, best.peek()) > 0) {
+                    best.poll();
+                    best.add(ordinal);
+                }
+            }
+            var hits = new ArrayList<BusinessSearchHit>(best.size());
+            while (!best.isEmpty()) {
+                int ordinal = best.poll();
+                hits.add(new BusinessSearchHit(ids[ordinal], scores[ordinal]));
+            }
+            return hits.reversed();
+        }
+    }
+
+    private static final class Postings {
+
+        private int[] ordinals = new int[4];
+
+        private int[] frequencies = new int[4];
+
+        private int size;
+
+        void add(int ordinal, int frequency) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            ordinals[size] = ordinal;
+            frequencies[size] = frequency;
+            size++;
+        }
+    }
+}
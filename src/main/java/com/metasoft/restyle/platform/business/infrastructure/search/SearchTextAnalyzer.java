@@ -0,0 +1,62 @@
+package com.metasoft.restyle.platform.business.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Search Text Analyzer.
+ * <p>
+ * This class turns free text into the terms used by the {@link BusinessSearchIndex}: the text is lowercased, its
+ * accents are folded so that {@code "Baños"}, {@code "banos"} and {@code "BAÑOS"} give the same term, it is split on
+ * anything that is not a letter or a digit, and common Spanish words are dropped. Documents and queries go through the
+ * same analysis.
+ * </p>
+ */
+public final class SearchTextAnalyzer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "al", "con", "de", "del", "e", "el", "en", "es", "la", "las", "lo", "los", "o", "para", "por", "que",
+            "se", "su", "sus", "u", "un", "una", "unas", "unos", "y");
+
+    private SearchTextAnalyzer() {
+    }
+
+    /**
+     * Splits the given text into search terms.
+     * @param text The text, which may be null.
+     * @return The terms, in the order they appear in the text.
+     */
+    public static List<String> analyze(String text) {
+        var terms = new ArrayList<String>();
+        if (text == null || text.isEmpty()) return terms;
+        var folded = fold(text);
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean termCharacter = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (termCharacter && start < 0) {
+                start = i;
+            } else if (!termCharacter && start >= 0) {
+                var term = folded.substring(start, i);
+                if (!STOP_WORDS.contains(term)) terms.add(term);
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private static String fold(String text) {
+        var lowercase = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lowercase.length(); i++) {
+            if (lowercase.charAt(i) > 0x7F) {
+                return COMBINING_MARKS.matcher(Normalizer.normalize(lowercase, Normalizer.Form.NFD)).replaceAll("");
+            }
+        }
+        return lowercase;
+    }
+}
@@ -4,15 +4,18 @@ import com.metasoft.restyle.platform.business.domain.model.aggregates.Business;
 //import com.metasoft.restyle.platform.business.domain.model.queries.GetAllBusinessesQuery;
 import com.metasoft.restyle.platform.business.domain.model.queries.GetAllBusinessesQuery;
 import com.metasoft.restyle.platform.business.domain.model.queries.GetBusinessByIdQuery;
+import com.metasoft.restyle.platform.business.domain.model.queries.SearchBusinessesQuery;
 import com.metasoft.restyle.platform.business.domain.services.BusinessCommandService;
 import com.metasoft.restyle.platform.business.domain.services.BusinessQueryService;
 import com.metasoft.restyle.platform.business.interfaces.rest.resources.BusinessResource;
 import com.metasoft.restyle.platform.business.interfaces.rest.resources.CreateBusinessResource;
 import com.metasoft.restyle.platform.business.interfaces.rest.transform.BusinessResourceFromEntityAssembler;
 import com.metasoft.restyle.platform.business.interfaces.rest.transform.CreateBusinessCommandFromResourceAssembler;
+import com.metasoft.restyle.platform.shared.interfaces.rest.streaming.NdjsonResponseWriter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Optional;
@@ -24,13 +27,18 @@ import static org.springframework.http.HttpStatus.CREATED;
 @Tag(name = "Businesses", description = "Business Management Endpoints")
 public class BusinessesController {
 
+    private static final int DEFAULT_SEARCH_LIMIT = 20;
+    private static final int MAX_SEARCH_LIMIT = 100;
+
     private final BusinessCommandService businessCommandService;
 
     private final BusinessQueryService businessQueryService;
+    private final NdjsonResponseWriter ndjsonResponseWriter;
 
-    public BusinessesController(BusinessCommandService businessCommandService, BusinessQueryService businessQueryService) {
+    public BusinessesController(BusinessCommandService businessCommandService, BusinessQueryService businessQueryService, NdjsonResponseWriter ndjsonResponseWriter) {
         this.businessCommandService = businessCommandService;
         this.businessQueryService = businessQueryService;
+        this.ndjsonResponseWriter = ndjsonResponseWriter;
     }
 
     @GetMapping
@@ -41,12 +49,30 @@ public class BusinessesController {
         return ResponseEntity.ok(businessResources);
     }
 
+    @GetMapping(produces = NdjsonResponseWriter.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllBusinesses() {
+        return ndjsonResponseWriter.write(() -> businessQueryService.stream(new GetAllBusinessesQuery()), BusinessResourceFromEntityAssembler::toResourceFromEntity);
+    }
+
     @PostMapping
     public ResponseEntity<BusinessResource> createBusiness(@RequestBody CreateBusinessResource resource) {
         Optional<Business> business = businessCommandService.handle(CreateBusinessCommandFromResourceAssembler.toCommandFromResource(resource));
         return business.map(b -> new ResponseEntity<>(BusinessResourceFromEntityAssembler.toResourceFromEntity(b), CREATED)).orElseGet(() -> ResponseEntity.badRequest().build());
     }
 
+    // Returns the businesses whose name, expertise, city or description best match the given words, best match first
+    @GetMapping("/search")
+    public ResponseEntity<List<BusinessResource>> searchBusinesses(@RequestParam String q,
+                                                                   @RequestParam(defaultValue = "" + DEFAULT_SEARCH_LIMIT) int limit) {
+        if (q.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        var searchBusinessesQuery = new SearchBusinessesQuery(q, Math.min(Math.max(limit, 1), MAX_SEARCH_LIMIT));
+        var businesses = businessQueryService.handle(searchBusinessesQuery);
+        var businessResources = businesses.stream().map(BusinessResourceFromEntityAssembler::toResourceFromEntity).toList();
+        return ResponseEntity.ok(businessResources);
+    }
+
     @GetMapping("{id}")
     public ResponseEntity<BusinessResource> getBusinessById(@PathVariable Long id) {
         Optional<Business> business = businessQueryService.handle(new GetBusinessByIdQuery(id));
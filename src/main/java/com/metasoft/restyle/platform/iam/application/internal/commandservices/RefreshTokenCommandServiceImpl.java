@@ -0,0 +1,112 @@
+package com.metasoft.restyle.platform.iam.application.internal.commandservices;
+
+import com.metasoft.restyle.platform.iam.application.internal.outboundservices.tokens.TokenService;
+import com.metasoft.restyle.platform.iam.domain.model.aggregates.RefreshToken;
+import com.metasoft.restyle.platform.iam.domain.model.aggregates.User;
+import com.metasoft.restyle.platform.iam.domain.model.commands.IssueRefreshTokenCommand;
+import com.metasoft.restyle.platform.iam.domain.model.commands.PurgeRefreshTokensCommand;
+import com.metasoft.restyle.platform.iam.domain.model.commands.RefreshAccessTokenCommand;
+import com.metasoft.restyle.platform.iam.domain.model.commands.RevokeRefreshTokenCommand;
+import com.metasoft.restyle.platform.iam.domain.model.entities.Role;
+import com.metasoft.restyle.platform.iam.domain.model.valueobjects.AuthenticationTokens;
+import com.metasoft.restyle.platform.iam.domain.services.RefreshTokenCommandService;
+import com.metasoft.restyle.platform.iam.infrastructure.persistence.jpa.repositories.RefreshTokenRepository;
+import com.metasoft.restyle.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
+import org.apache.commons.lang3.time.DateUtils;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Refresh token command service.
+ * <p>
+ * Refresh tokens are random values returned to the client once; only their SHA-256 digest is stored. Refreshing
+ * revokes the token with a conditional update, rotates it and signs a new access token, without hashing any password.
+ * Revoked and expired tokens are deleted by the {@code RefreshTokenPurgeJob}.
+ * </p>
+ */
+@Service
+public class RefreshTokenCommandServiceImpl implements RefreshTokenCommandService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final TokenService tokenService;
+    private final int expirationDays;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenCommandServiceImpl(RefreshTokenRepository refreshTokenRepository, UserRepository userRepository, TokenService tokenService,
+                                          @Value("${authorization.refresh-token.expiration.days:30}") int expirationDays) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.tokenService = tokenService;
+        this.expirationDays = expirationDays;
+    }
+
+    @Override
+    @Transactional
+    public String handle(IssueRefreshTokenCommand command) {
+        return issue(userRepository.getReferenceById(command.userId()));
+    }
+
+    // The conditional revoke lets only one of several concurrent refreshes with the same token rotate it
+    @Override
+    @Transactional
+    public Optional<ImmutablePair<User, AuthenticationTokens>> handle(RefreshAccessTokenCommand command) {
+        if (isBlank(command.refreshToken())) return Optional.empty();
+        var tokenHash = digest(command.refreshToken());
+        if (refreshTokenRepository.revokeActive(tokenHash, new Date()) != 1) return Optional.empty();
+
+        var current = refreshTokenRepository.findByTokenHash(tokenHash).orElseThrow();
+        var user = current.getUser();
+        var roles = user.getRoles().stream().map(Role::getStringName).toList();
+        var accessToken = tokenService.generateToken(user.getUsername(), roles);
+        return Optional.of(new ImmutablePair<>(user, new AuthenticationTokens(accessToken, issue(user))));
+    }
+
+    @Override
+    @Transactional
+    public void handle(RevokeRefreshTokenCommand command) {
+        if (isBlank(command.refreshToken())) return;
+        refreshTokenRepository.revokeActive(digest(command.refreshToken()), new Date());
+    }
+
+    @Override
+    @Transactional
+    public int handle(PurgeRefreshTokensCommand command) {
+        return refreshTokenRepository.deleteRevokedOrExpired(new Date());
+    }
+
+    private static boolean isBlank(String rawToken) {
+        return rawToken == null || rawToken.isBlank();
+    }
+
+    private String issue(User user) {
+        var bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        var rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        var expiresAt = DateUtils.addDays(new Date(), expirationDays);
+        refreshTokenRepository.save(new RefreshToken(digest(rawToken), user, expiresAt));
+        return rawToken;
+    }
+
+    private static String digest(String rawToken) {
+        try {
+            var hash = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
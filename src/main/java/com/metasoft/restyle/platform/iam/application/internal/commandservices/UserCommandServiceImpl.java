@@ -1,18 +1,24 @@
 package com.metasoft.restyle.platform.iam.application.internal.commandservices;
 
+import com.metasoft.restyle.platform.iam.application.internal.outboundservices.hashing.HashingCapacityExceededException;
 import com.metasoft.restyle.platform.iam.application.internal.outboundservices.hashing.HashingService;
 import com.metasoft.restyle.platform.iam.application.internal.outboundservices.tokens.TokenService;
+import com.metasoft.restyle.platform.iam.application.internal.registries.RoleRegistry;
 import com.metasoft.restyle.platform.iam.domain.model.aggregates.User;
 import com.metasoft.restyle.platform.iam.domain.model.commands.SignInCommand;
 import com.metasoft.restyle.platform.iam.domain.model.commands.SignUpCommand;
 import com.metasoft.restyle.platform.iam.domain.model.commands.UpdateUserCommand;
+import com.metasoft.restyle.platform.iam.domain.model.entities.Role;
 import com.metasoft.restyle.platform.iam.domain.services.UserCommandService;
-import com.metasoft.restyle.platform.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
 import com.metasoft.restyle.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 public class UserCommandServiceImpl implements UserCommandService{
@@ -20,25 +26,29 @@ public class UserCommandServiceImpl implements UserCommandService{
     private final UserRepository userRepository;
     private final HashingService hashingService;
     private final TokenService tokenService;
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
 
-    public UserCommandServiceImpl(UserRepository userRepository, HashingService hashingService, TokenService tokenService, RoleRepository roleRepository) {
+    public UserCommandServiceImpl(UserRepository userRepository, HashingService hashingService, TokenService tokenService, RoleRegistry roleRegistry) {
         this.userRepository = userRepository;
         this.hashingService = hashingService;
         this.tokenService = tokenService;
-        this.roleRepository = roleRepository;
+        this.roleRegistry = roleRegistry;
     }
 
+    // The username check, the role references and the insert share one transaction, so they do not depend on an
+    // open-in-view session to keep the roles attached
     @Override
+    @Transactional
     public Optional<User> handle(SignUpCommand command) {
         if(userRepository.existsByUsername(command.username()))
             throw new RuntimeException("Username already exists");
 
-        var roles = command.roles().stream().map(role -> roleRepository.findByName(role.getName())
-                .orElseThrow(() -> new RuntimeException("Role not found"))).toList();
-        var user = new User(command.username(), hashingService.encode(command.password()), roles, command.email(), command.firstName(), command.paternalSurname(), command.maternalSurname(), command.description(), command.phone(), command.image());
-        userRepository.save(user);
-        return userRepository.findByUsername(command.username());
+        var roles = command.roles() == null || command.roles().isEmpty()
+                ? List.of(roleRegistry.getDefaultRole())
+                : command.roles().stream().map(role -> roleRegistry.findByName(role.getName())
+                        .orElseThrow(() -> new RuntimeException("Role not found"))).toList();
+        var user = new User(command.username(), await(hashingService.encodeAsync(command.password())), roles, command.email(), command.firstName(), command.paternalSurname(), command.maternalSurname(), command.description(), command.phone(), command.image());
+        return Optional.of(userRepository.save(user));
     }
 
     @Override
@@ -47,17 +57,44 @@ public class UserCommandServiceImpl implements UserCommandService{
                 .orElseThrow(() -> new RuntimeException("User not found"));
         user.updateUserInfo(command.email(), command.description(), command.phone(), command.image());
 
-        userRepository.save(user);
-        return userRepository.findById(command.id());
+        return Optional.of(userRepository.save(user));
     }
 
     @Override
     public Optional<ImmutablePair<User, String>> handle(SignInCommand command) {
         var user = userRepository.findByUsername(command.username())
                 .orElseThrow(() -> new RuntimeException("User not found"));
-        if(!hashingService.matches(command.password(), user.getPassword()))
+        if(!await(hashingService.matchesAsync(command.password(), user.getPassword())))
             throw new RuntimeException("Invalid password");
-        var token = tokenService.generateToken(user.getUsername());
+        rehashIfNeeded(user, command.password());
+        var roles = user.getRoles().stream().map(Role::getStringName).toList();
+        var token = tokenService.generateToken(user.getUsername(), roles);
         return Optional.of(new ImmutablePair<>(user, token));
     }
+
+    /**
+     * Rehashes the password with the current cost when the stored hash uses a different one.
+     * The rehash is skipped when the hashing executor is saturated and retried on a later sign-in.
+     */
+    private void rehashIfNeeded(User user, String password) {
+        if (!hashingService.needsRehash(user.getPassword())) return;
+        try {
+            user.updatePassword(await(hashingService.encodeAsync(password)));
+            userRepository.save(user);
+        } catch (HashingCapacityExceededException e) {
+            // keep the current hash
+        }
+    }
+
+    /**
+     * Waits for a hashing result, rethrowing the original exception when the hash failed or was rejected.
+     */
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
 }
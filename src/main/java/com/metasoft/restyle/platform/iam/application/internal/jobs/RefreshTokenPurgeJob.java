@@ -0,0 +1,34 @@
+package com.metasoft.restyle.platform.iam.application.internal.jobs;
+
+import com.metasoft.restyle.platform.iam.domain.model.commands.PurgeRefreshTokensCommand;
+import com.metasoft.restyle.platform.iam.domain.services.RefreshTokenCommandService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Refresh Token Purge Job.
+ * <p>
+ * Every rotation and sign-out leaves a revoked refresh token behind, and unused tokens expire; this job deletes both on
+ * a schedule so the refresh token table does not grow without bound. The purge is a single delete, so running it on
+ * several instances at once is harmless. The schedule is set by the {@code authorization.refresh-token.purge.cron}
+ * property, and {@code -} disables it.
+ * </p>
+ */
+@Component
+public class RefreshTokenPurgeJob {
+    private final Logger LOGGER = LoggerFactory.getLogger(RefreshTokenPurgeJob.class);
+
+    private final RefreshTokenCommandService refreshTokenCommandService;
+
+    public RefreshTokenPurgeJob(RefreshTokenCommandService refreshTokenCommandService) {
+        this.refreshTokenCommandService = refreshTokenCommandService;
+    }
+
+    @Scheduled(cron = "${authorization.refresh-token.purge.cron:0 30 3 * * *}")
+    public void purge() {
+        var purged = refreshTokenCommandService.handle(new PurgeRefreshTokensCommand());
+        LOGGER.info("Purged {} revoked or expired refresh tokens", purged);
+    }
+}
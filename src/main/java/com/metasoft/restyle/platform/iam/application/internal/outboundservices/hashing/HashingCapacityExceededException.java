@@ -0,0 +1,10 @@
+package com.metasoft.restyle.platform.iam.application.internal.outboundservices.hashing;
+
+/**
+ * Thrown when a password hash cannot be queued because the hashing executor is saturated.
+ */
+public class HashingCapacityExceededException extends RuntimeException {
+    public HashingCapacityExceededException() {
+        super("Password hashing capacity exceeded");
+    }
+}
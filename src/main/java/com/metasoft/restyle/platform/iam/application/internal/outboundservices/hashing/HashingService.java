@@ -1,6 +1,25 @@
 package com.metasoft.restyle.platform.iam.application.internal.outboundservices.hashing;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface HashingService {
     String encode(CharSequence rawPassword);
     boolean matches(CharSequence rawPassword, String encodedPassword);
+
+    /**
+     * Encodes the password on the hashing executor.
+     * The future fails with {@link HashingCapacityExceededException} when the executor is saturated.
+     */
+    CompletableFuture<String> encodeAsync(CharSequence rawPassword);
+
+    /**
+     * Matches the password on the hashing executor.
+     * The future fails with {@link HashingCapacityExceededException} when the executor is saturated.
+     */
+    CompletableFuture<Boolean> matchesAsync(CharSequence rawPassword, String encodedPassword);
+
+    /**
+     * Whether the encoded password was produced with a lower cost than the current one and should be rehashed.
+     */
+    boolean needsRehash(String encodedPassword);
 }
@@ -1,7 +1,10 @@
 package com.metasoft.restyle.platform.iam.application.internal.outboundservices.tokens;
 
+import java.util.List;
+
 public interface TokenService {
     String generateToken(String username);
+    String generateToken(String username, List<String> roles);
     String getUsernameFromToken(String token);
     boolean validateToken(String token);
 }
\ No newline at end of file
@@ -1,10 +1,10 @@
 package com.metasoft.restyle.platform.iam.application.internal.queryservices;
 
+import com.metasoft.restyle.platform.iam.application.internal.registries.RoleRegistry;
 import com.metasoft.restyle.platform.iam.domain.model.entities.Role;
 import com.metasoft.restyle.platform.iam.domain.model.queries.GetAllRolesQuery;
 import com.metasoft.restyle.platform.iam.domain.model.queries.GetRoleByNameQuery;
 import com.metasoft.restyle.platform.iam.domain.services.RoleQueryService;
-import com.metasoft.restyle.platform.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -12,19 +12,19 @@ import java.util.Optional;
 
 @Service
 public class RoleQueryServiceImpl implements RoleQueryService {
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
 
-    public RoleQueryServiceImpl(RoleRepository roleRepository) {
-        this.roleRepository = roleRepository;
+    public RoleQueryServiceImpl(RoleRegistry roleRegistry) {
+        this.roleRegistry = roleRegistry;
     }
 
     @Override
     public List<Role> handle(GetAllRolesQuery query) {
-        return roleRepository.findAll();
+        return roleRegistry.findAll();
     }
 
     @Override
     public Optional<Role> handle(GetRoleByNameQuery query) {
-        return roleRepository.findByName(query.name());
+        return roleRegistry.findByName(query.name());
     }
 }
@@ -7,11 +7,14 @@ import com.metasoft.restyle.platform.iam.domain.model.queries.GetUserByUsernameQ
 import com.metasoft.restyle.platform.iam.domain.services.UserQueryService;
 import com.metasoft.restyle.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
+@Transactional(readOnly = true)
 public class UserQueryServiceImpl implements UserQueryService {
     private final UserRepository userRepository;
 
@@ -21,7 +24,7 @@ public class UserQueryServiceImpl implements UserQueryService {
 
     @Override
     public List<User> handle(GetAllUsersQuery query) {
-        return userRepository.findAll();
+        return userRepository.findAllWithRoles();
     }
 
     @Override
@@ -33,4 +36,9 @@ public class UserQueryServiceImpl implements UserQueryService {
     public Optional<User> handle(GetUserByUsernameQuery query) {
         return userRepository.findByUsername(query.username());
     }
+
+    @Override
+    public Stream<User> stream(GetAllUsersQuery query) {
+        return userRepository.streamAll();
+    }
 }
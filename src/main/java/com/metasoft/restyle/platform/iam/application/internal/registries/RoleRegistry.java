@@ -0,0 +1,85 @@
+package com.metasoft.restyle.platform.iam.application.internal.registries;
+
+import com.metasoft.restyle.platform.iam.domain.model.entities.Role;
+import com.metasoft.restyle.platform.iam.domain.model.valueobjects.Roles;
+import com.metasoft.restyle.platform.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Role Registry.
+ * <p>
+ * Roles are fixed by the seeding done at startup, so this class loads them once into an immutable map keyed by
+ * {@link Roles} and serves every later lookup from memory. It is loaded right after seeding; a lookup made before
+ * that loads it on demand.
+ * </p>
+ */
+@Component
+public class RoleRegistry {
+
+    private final RoleRepository roleRepository;
+
+    private volatile Map<Roles, Role> roles;
+
+    private volatile List<Role> allRoles;
+
+    public RoleRegistry(RoleRepository roleRepository) {
+        this.roleRepository = roleRepository;
+    }
+
+    /**
+     * Loads the seeded roles, replacing any roles loaded before.
+     * @throws IllegalStateException when a role has not been seeded.
+     */
+    public synchronized void load() {
+        var loaded = new EnumMap<Roles, Role>(Roles.class);
+        roleRepository.findAll().forEach(role -> loaded.put(role.getName(), role));
+        var missing = Arrays.stream(Roles.values()).filter(name -> !loaded.containsKey(name)).toList();
+        if (!missing.isEmpty()) throw new IllegalStateException("Roles have not been seeded: " + missing);
+        allRoles = List.copyOf(loaded.values());
+        roles = Collections.unmodifiableMap(loaded);
+    }
+
+    /**
+     * Finds the role with the given name.
+     * @param name The name of the role.
+     * @return The role, or empty when it has not been seeded.
+     */
+    public Optional<Role> findByName(Roles name) {
+        return Optional.ofNullable(roles().get(name));
+    }
+
+    /**
+     * Returns the role given to users that sign up without roles.
+     * @return The stored {@link Role#DEFAULT_ROLE} role.
+     * @throws IllegalStateException when the default role has not been seeded.
+     */
+    public Role getDefaultRole() {
+        return findByName(Role.DEFAULT_ROLE)
+                .orElseThrow(() -> new IllegalStateException("Role has not been seeded: " + Role.DEFAULT_ROLE));
+    }
+
+    /**
+     * Returns every role, in {@link Roles} declaration order.
+     * @return The roles.
+     */
+    public List<Role> findAll() {
+        roles();
+        return allRoles;
+    }
+
+    private Map<Roles, Role> roles() {
+        if (roles == null) {
+            synchronized (this) {
+                if (roles == null) load();
+            }
+        }
+        return roles;
+    }
+}
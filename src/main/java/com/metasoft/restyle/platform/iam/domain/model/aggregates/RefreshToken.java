@@ -0,0 +1,60 @@
+package com.metasoft.restyle.platform.iam.domain.model.aggregates;
+
+import com.metasoft.restyle.platform.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import jakarta.persistence.*;
+import lombok.Getter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.util.Date;
+
+/**
+ * RefreshToken aggregate root
+ * This class represents a refresh token issued to a user. Only the SHA-256 digest of the token is stored.
+ * A token is active until it expires or is revoked; it is revoked when it is rotated or the user signs out.
+ *
+ * @see AuditableAbstractAggregateRoot
+ */
+@Getter
+@Entity
+public class RefreshToken extends AuditableAbstractAggregateRoot<RefreshToken> {
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @Column(nullable = false)
+    private Date expiresAt;
+
+    private boolean revoked;
+
+    public RefreshToken() {
+    }
+
+    public RefreshToken(String tokenHash, User user, Date expiresAt) {
+        this.tokenHash = tokenHash;
+        this.user = user;
+        this.expiresAt = expiresAt;
+        this.revoked = false;
+    }
+
+    /**
+     * Whether the token can still be used
+     * @param now the current time
+     * @return true when the token is neither revoked nor expired
+     */
+    public boolean isActive(Date now) {
+        return !revoked && expiresAt.after(now);
+    }
+
+    /**
+     * Revoke the token, so it can no longer be used
+     */
+    public void revoke() {
+        this.revoked = true;
+    }
+}
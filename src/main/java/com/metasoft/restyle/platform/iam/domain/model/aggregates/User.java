@@ -1,12 +1,16 @@
 package com.metasoft.restyle.platform.iam.domain.model.aggregates;
 
 import com.metasoft.restyle.platform.iam.domain.model.entities.Role;
+import com.metasoft.restyle.platform.iam.domain.model.events.UserUpdatedEvent;
 import com.metasoft.restyle.platform.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.List;
@@ -33,7 +37,10 @@ public class User extends AuditableAbstractAggregateRoot<User> {
     @Size(max = 120)
     private String password;
 
-    @ManyToMany(fetch = FetchType.EAGER, cascade = CascadeType.ALL) // Eager fetch to load the roles when loading the user
+    // Eager fetch to load the roles when loading the user; roles are seeded reference data, so nothing is cascaded to them
+    @ManyToMany(fetch = FetchType.EAGER)
+    @BatchSize(size = 100) // Load the roles of up to 100 users per statement when they are not fetched with the users
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-roles")
     @JoinTable(	name = "user_roles",
             joinColumns = @JoinColumn(name = "user_id"),
             inverseJoinColumns = @JoinColumn(name = "role_id"))
@@ -73,36 +80,52 @@ public class User extends AuditableAbstractAggregateRoot<User> {
         this.description = description;
         this.phone = phone;
         this.image = image;
+        registerEvent(new UserUpdatedEvent(username));
+    }
+
+    /**
+     * Replace the password hash of the user, e.g. when it is rehashed with a different cost
+     * @param password the new password hash
+     */
+    public void updatePassword(String password) {
+        this.password = password;
+        registerEvent(new UserUpdatedEvent(username));
     }
 
     /**
      * Add a role to the user
-     * @param role the role to add
+     * @param role the role to add, as stored in the roles table
      * @return the user with the added role
+     * @throws IllegalArgumentException when the role is null or has not been stored
      */
     public User addRole(Role role) {
-        if(role == null || role.getId() == null) {
-            this.roles.add(Role.getDefaultRole());
-        } else {
-            this.roles.add(role);
-        }
+        requireStoredRole(role);
+        this.roles.add(role);
+        registerEvent(new UserUpdatedEvent(username));
         return this;
     }
 
     /**
      * Add a list of roles to the user
-     * @param roles the list of roles to add
+     * @param roles the list of roles to add, as stored in the roles table
      * @return the user with the added roles
+     * @throws IllegalArgumentException when the list is null or empty, or when a role is null or has not been stored
      */
     public User addRoles(List<Role> roles) {
-        if (roles == null || roles.isEmpty()) {
-            this.roles.add(Role.getDefaultRole());
-        } else {
-            this.roles.addAll(roles);
-        }
+        if (roles == null || roles.isEmpty())
+            throw new IllegalArgumentException("A user needs at least one role");
+        roles.forEach(User::requireStoredRole);
+        this.roles.addAll(roles);
+        registerEvent(new UserUpdatedEvent(username));
         return this;
     }
 
+    // Roles are not cascaded from the user, so only roles that already have a row can be linked to it
+    private static void requireStoredRole(Role role) {
+        if (role == null || role.getId() == null)
+            throw new IllegalArgumentException("Role must be a stored role: " + role);
+    }
+
     public Long getId() {
         return super.getId();
     }
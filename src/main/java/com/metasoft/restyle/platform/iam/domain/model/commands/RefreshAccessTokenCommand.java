@@ -0,0 +1,4 @@
+package com.metasoft.restyle.platform.iam.domain.model.commands;
+
+public record RefreshAccessTokenCommand(String refreshToken) {
+}
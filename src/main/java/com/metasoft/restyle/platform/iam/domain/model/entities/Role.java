@@ -3,8 +3,11 @@ package com.metasoft.restyle.platform.iam.domain.model.entities;
 import com.metasoft.restyle.platform.iam.domain.model.valueobjects.Roles;
 import jakarta.persistence.*;
 import lombok.*;
-
-import java.util.List;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 /**
  * Role entity
@@ -14,6 +17,9 @@ import java.util.List;
  * </p>
  */
 @Entity
+@Immutable
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "roles") // Roles are only written when seeded
 @Data
 //@NoArgsConstructor(access = AccessLevel.PUBLIC) // Asegura visibilidad pública
 //@AllArgsConstructor
@@ -23,7 +29,9 @@ public class Role {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Stored as a plain varchar so the migrated schema is the same on every database
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(length = 20)
     private Roles name;
 
@@ -45,12 +53,9 @@ public class Role {
     }
 
     /**
-     * Get the default role
-     * @return the default role
+     * The name of the role given to users that sign up without roles
      */
-    public static Role getDefaultRole() {
-        return new Role(Roles.ROLE_CONTRACTOR);
-    }
+    public static final Roles DEFAULT_ROLE = Roles.ROLE_CONTRACTOR;
 
     /**
      * Get the role from its name
@@ -59,7 +64,7 @@ public class Role {
      */
     public static Role toRoleFromName(String name) {
         if (name == null || name.isBlank()) {
-            return getDefaultRole();
+            return new Role(DEFAULT_ROLE);
         }
         try {
             return new Role(Roles.valueOf(name));
@@ -68,21 +73,6 @@ public class Role {
         }
     }
 
-    /**
-     * Validate the role set
-     * <p>
-     *     This method validates the role set and returns the default role if the set is empty.
-     * </p>
-     * @param roles the role set
-     * @return the role set
-     */
-    public static List<Role> validateRoleSet(List<Role> roles) {
-        if (roles == null || roles.isEmpty()) {
-            return List.of(getDefaultRole());
-        }
-        return roles;
-    }
-
     public Role() {}
 
 }
@@ -0,0 +1,8 @@
+package com.metasoft.restyle.platform.iam.domain.model.events;
+
+/**
+ * Raised when the information or the roles of a user change.
+ * @param username The username of the updated user.
+ */
+public record UserUpdatedEvent(String username) {
+}
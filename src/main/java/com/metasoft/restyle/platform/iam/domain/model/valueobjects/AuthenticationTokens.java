@@ -0,0 +1,7 @@
+package com.metasoft.restyle.platform.iam.domain.model.valueobjects;
+
+/**
+ * Access token and refresh token issued together to a user.
+ */
+public record AuthenticationTokens(String accessToken, String refreshToken) {
+}
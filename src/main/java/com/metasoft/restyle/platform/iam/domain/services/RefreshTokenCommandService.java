@@ -0,0 +1,18 @@
+package com.metasoft.restyle.platform.iam.domain.services;
+
+import com.metasoft.restyle.platform.iam.domain.model.aggregates.User;
+import com.metasoft.restyle.platform.iam.domain.model.commands.IssueRefreshTokenCommand;
+import com.metasoft.restyle.platform.iam.domain.model.commands.PurgeRefreshTokensCommand;
+import com.metasoft.restyle.platform.iam.domain.model.commands.RefreshAccessTokenCommand;
+import com.metasoft.restyle.platform.iam.domain.model.commands.RevokeRefreshTokenCommand;
+import com.metasoft.restyle.platform.iam.domain.model.valueobjects.AuthenticationTokens;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+
+import java.util.Optional;
+
+public interface RefreshTokenCommandService {
+    String handle(IssueRefreshTokenCommand command);
+    Optional<ImmutablePair<User, AuthenticationTokens>> handle(RefreshAccessTokenCommand command);
+    void handle(RevokeRefreshTokenCommand command);
+    int handle(PurgeRefreshTokensCommand command);
+}
@@ -7,9 +7,11 @@ import com.metasoft.restyle.platform.iam.domain.model.queries.GetUserByUsernameQ
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserQueryService {
     List<User> handle(GetAllUsersQuery query);
     Optional<User> handle(GetUserByIdQuery query);
     Optional<User> handle(GetUserByUsernameQuery query);
+    Stream<User> stream(GetAllUsersQuery query);
 }
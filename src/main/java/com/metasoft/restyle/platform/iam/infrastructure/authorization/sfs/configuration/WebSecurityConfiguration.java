@@ -1,9 +1,14 @@
 package com.metasoft.restyle.platform.iam.infrastructure.authorization.sfs.configuration;
 
 import com.metasoft.restyle.platform.iam.infrastructure.authorization.sfs.pipeline.BearerAuthorizationRequestFilter;
+import com.metasoft.restyle.platform.iam.infrastructure.authorization.sfs.services.CachingUserDetailsService;
+import com.metasoft.restyle.platform.iam.infrastructure.authorization.sfs.services.UserDetailsCache;
+import com.metasoft.restyle.platform.iam.infrastructure.authorization.sfs.events.AuthenticationEventLogger;
 import com.metasoft.restyle.platform.iam.infrastructure.hashing.bcrypt.BCryptHashingService;
 import com.metasoft.restyle.platform.iam.infrastructure.tokens.jwt.BearerTokenService;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -18,6 +23,7 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
     
+import java.time.Duration;
 import java.util.List;
 
 @EnableMethodSecurity
@@ -28,17 +34,28 @@ public class WebSecurityConfiguration {
     private final BearerTokenService tokenService;
     private final BCryptHashingService hashingService;
     private final AuthenticationEntryPoint unauthorizedRequestHandler;
+    private final UserDetailsCache userDetailsCache;
+    private final AuthenticationEventLogger authenticationEventLogger;
 
-    public WebSecurityConfiguration(@Qualifier("defaultUserDetailsService") UserDetailsService userDetailsService, BearerTokenService tokenService, BCryptHashingService hashingService, AuthenticationEntryPoint authenticationEntryPoint) {
+    @Value("${authorization.jwt.stateless-authorities.enabled:false}")
+    private boolean statelessAuthorities;
+
+    @Value("${authorization.jwt.stateless-authorities.revocation-check.seconds:60}")
+    private long revocationCheckSeconds;
+
+    public WebSecurityConfiguration(@Qualifier("defaultUserDetailsService") UserDetailsService userDetailsService, BearerTokenService tokenService, BCryptHashingService hashingService, AuthenticationEntryPoint authenticationEntryPoint, UserDetailsCache userDetailsCache, AuthenticationEventLogger authenticationEventLogger) {
         this.userDetailsService = userDetailsService;
         this.tokenService = tokenService;
         this.hashingService = hashingService;
         this.unauthorizedRequestHandler = authenticationEntryPoint;
+        this.userDetailsCache = userDetailsCache;
+        this.authenticationEventLogger = authenticationEventLogger;
     }
 
     @Bean
     public BearerAuthorizationRequestFilter authorizationRequestFilter() {
-        return new BearerAuthorizationRequestFilter(tokenService, userDetailsService);
+        return new BearerAuthorizationRequestFilter(tokenService, new CachingUserDetailsService(userDetailsService, userDetailsCache),
+                authenticationEventLogger, statelessAuthorities, Duration.ofSeconds(revocationCheckSeconds));
     }
 
     @Bean
@@ -66,6 +83,9 @@ public class WebSecurityConfiguration {
                 .exceptionHandling(exceptionHandling -> exceptionHandling.authenticationEntryPoint(unauthorizedRequestHandler))
                 .sessionManagement(customizer -> customizer.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorizeRequests -> authorizeRequests
+                        // Streamed responses end with an async dispatch that carries no bearer token; the request was
+                        // already authorized when it started
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/api/v1/authentication/**",
                                 "/v3/api-docs/**",
@@ -0,0 +1,90 @@
+package com.metasoft.restyle.platform.iam.infrastructure.authorization.sfs.events;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Authentication Event Logger.
+ * <p>
+ * This class records the outcome of every request that goes through the bearer authorization filter.
+ * Each outcome is counted in the {@code iam.authentication.outcomes} metric, tagged by outcome. Rejections are also
+ * logged, at most once per outcome and interval, with the number of occurrences since the previous line. Log lines are
+ * written by a background thread, so the request thread only increments counters. Tokens are never logged.
+ * </p>
+ */
+@Component
+public class AuthenticationEventLogger implements DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AuthenticationEventLogger.class);
+    private static final String METRIC_NAME = "iam.authentication.outcomes";
+
+    private final Map<AuthenticationOutcome, Counter> counters = new EnumMap<>(AuthenticationOutcome.class);
+    private final Map<AuthenticationOutcome, LongAdder> pendingOccurrences = new EnumMap<>(AuthenticationOutcome.class);
+    private final Map<AuthenticationOutcome, AtomicLong> nextDetailAt = new EnumMap<>(AuthenticationOutcome.class);
+    private final long detailIntervalNanos;
+    private final ThreadPoolExecutor executor;
+
+    public AuthenticationEventLogger(MeterRegistry meterRegistry,
+                                     @Value("${authorization.events.detail-interval.seconds:60}") long detailIntervalSeconds) {
+        for (var outcome : AuthenticationOutcome.values()) {
+            counters.put(outcome, Counter.builder(METRIC_NAME).tag("outcome", outcome.name()).register(meterRegistry));
+            pendingOccurrences.put(outcome, new LongAdder());
+            nextDetailAt.put(outcome, new AtomicLong(System.nanoTime()));
+        }
+        this.detailIntervalNanos = Duration.ofSeconds(detailIntervalSeconds).toNanos();
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(256), runnable -> {
+            var thread = new Thread(runnable, "auth-event-logger");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    /**
+     * Records the outcome of a request.
+     * @param outcome The outcome.
+     * @param request The request, used only to describe rejections.
+     * @param reason An optional description of the rejection. It must not contain the token.
+     */
+    public void record(AuthenticationOutcome outcome, HttpServletRequest request, String reason) {
+        counters.get(outcome).increment();
+        if (!outcome.isRejection()) return;
+
+        var occurrences = pendingOccurrences.get(outcome);
+        occurrences.increment();
+        var next = nextDetailAt.get(outcome);
+        var now = System.nanoTime();
+        var scheduled = next.get();
+        if (now - scheduled < 0 || !next.compareAndSet(scheduled, now + detailIntervalNanos)) return;
+
+        var count = occurrences.sumThenReset();
+        var method = request.getMethod();
+        var path = request.getRequestURI();
+        var remoteAddress = request.getRemoteAddr();
+        executor.execute(() -> LOGGER.warn("Authentication {}: {} occurrence(s) since last report, latest {} {} from {}{}",
+                outcome, count, method, path, remoteAddress, reason != null ? " (" + reason + ")" : ""));
+    }
+
+    public void record(AuthenticationOutcome outcome, HttpServletRequest request) {
+        record(outcome, request, null);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
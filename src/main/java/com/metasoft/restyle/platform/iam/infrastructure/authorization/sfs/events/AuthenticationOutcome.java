@@ -0,0 +1,31 @@
+package com.metasoft.restyle.platform.iam.infrastructure.authorization.sfs.events;
+
+import com.metasoft.restyle.platform.iam.infrastructure.tokens.jwt.model.TokenVerificationFailure;
+
+/**
+ * Outcomes of the bearer authorization filter for a single request.
+ */
+public enum AuthenticationOutcome {
+    AUTHENTICATED,
+    ANONYMOUS,
+    INVALID_SIGNATURE,
+    MALFORMED,
+    EXPIRED,
+    UNSUPPORTED,
+    EMPTY,
+    INVALID,
+    REVOKED,
+    ERROR;
+
+    public static AuthenticationOutcome from(TokenVerificationFailure failure) {
+        return valueOf(failure.name());
+    }
+
+    /**
+     * Whether the outcome is a rejection worth reporting in the logs.
+     * @return true for every outcome except authenticated and anonymous requests.
+     */
+    public boolean isRejection() {
+        return this != AUTHENTICATED && this != ANONYMOUS;
+    }
+}
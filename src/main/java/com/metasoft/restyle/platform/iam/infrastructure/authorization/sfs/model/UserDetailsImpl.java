@@ -54,6 +54,19 @@ public class UserDetailsImpl implements UserDetails {
                 authorities);
     }
 
+    /**
+     * This method is responsible for building the UserDetailsImpl object from the claims of a verified token.
+     * @param username The username in the token.
+     * @param roles The role names in the token.
+     * @return The UserDetailsImpl object, without password.
+     */
+    public static UserDetailsImpl build(String username, Collection<String> roles) {
+        var authorities = roles.stream()
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+        return new UserDetailsImpl(username, null, authorities);
+    }
+
     // Los siguientes métodos deben implementarse manualmente para cumplir con la interfaz UserDetails de Spring Security.
     // Lombok no puede generar los métodos con el prefijo exacto 'is' requerido por la interfaz, por lo que es necesario mantenerlos manualmente.
     // Suprimimos la advertencia de código redundante ya que esto es intencional y necesario para la compatibilidad.
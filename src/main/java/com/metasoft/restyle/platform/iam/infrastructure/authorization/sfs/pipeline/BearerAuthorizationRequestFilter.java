@@ -1,20 +1,28 @@
 package com.metasoft.restyle.platform.iam.infrastructure.authorization.sfs.pipeline;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.metasoft.restyle.platform.iam.infrastructure.authorization.sfs.events.AuthenticationEventLogger;
+import com.metasoft.restyle.platform.iam.infrastructure.authorization.sfs.events.AuthenticationOutcome;
+import com.metasoft.restyle.platform.iam.infrastructure.authorization.sfs.model.UserDetailsImpl;
 import com.metasoft.restyle.platform.iam.infrastructure.authorization.sfs.model.UsernamePasswordAuthenticationTokenBuilder;
 import com.metasoft.restyle.platform.iam.infrastructure.tokens.jwt.BearerTokenService;
+import com.metasoft.restyle.platform.iam.infrastructure.tokens.jwt.model.TokenVerificationResult;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.lang.NonNull;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.stream.Collectors;
 
 /**
  * Bearer Authorization Request Filter.
@@ -22,20 +30,43 @@ import java.io.IOException;
  * This class is responsible for filtering requests and setting the user authentication.
  * It extends the OncePerRequestFilter class.
  * </p>
+ * <p>
+ * In stateless authorities mode the authentication is built from the roles embedded in the token, without loading
+ * the user. When a revocation check interval is set, the user is still loaded at most once per interval for each
+ * username and role set, and the token is rejected if the user no longer holds those roles.
+ * </p>
+ * <p>
+ * The outcome of every request is reported to the {@link AuthenticationEventLogger}; the filter itself never logs.
+ * </p>
  * @see OncePerRequestFilter
  */
 public class BearerAuthorizationRequestFilter extends OncePerRequestFilter {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(BearerAuthorizationRequestFilter.class);
     private final BearerTokenService tokenService;
 
 
     @Qualifier("defaultUserDetailsService")
     private final UserDetailsService userDetailsService;
 
-    public BearerAuthorizationRequestFilter(BearerTokenService tokenService, UserDetailsService userDetailsService) {
+    private final boolean statelessAuthorities;
+    private final Cache<String, Boolean> revocationChecks;
+    private final AuthenticationEventLogger authenticationEventLogger;
+
+    public BearerAuthorizationRequestFilter(BearerTokenService tokenService, UserDetailsService userDetailsService,
+                                            AuthenticationEventLogger authenticationEventLogger) {
+        this(tokenService, userDetailsService, authenticationEventLogger, false, Duration.ZERO);
+    }
+
+    public BearerAuthorizationRequestFilter(BearerTokenService tokenService, UserDetailsService userDetailsService,
+                                            AuthenticationEventLogger authenticationEventLogger,
+                                            boolean statelessAuthorities, Duration revocationCheckInterval) {
         this.tokenService = tokenService;
         this.userDetailsService = userDetailsService;
+        this.authenticationEventLogger = authenticationEventLogger;
+        this.statelessAuthorities = statelessAuthorities;
+        this.revocationChecks = statelessAuthorities && revocationCheckInterval.isPositive()
+                ? Caffeine.newBuilder().expireAfterWrite(revocationCheckInterval).maximumSize(100_000).build()
+                : null;
     }
 
     /**
@@ -50,18 +81,48 @@ public class BearerAuthorizationRequestFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         try {
             String token = tokenService.getBearerTokenFrom(request);
-            LOGGER.info("Token: {}", token);
-            if (token != null && tokenService.validateToken(token)) {
-                String username = tokenService.getUsernameFromToken(token);
-                var userDetails = userDetailsService.loadUserByUsername(username);
-                SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationTokenBuilder.build(userDetails, request));
+            if (token == null) {
+                authenticationEventLogger.record(AuthenticationOutcome.ANONYMOUS, request);
             } else {
-                LOGGER.info("Token is not valid");
+                var verification = tokenService.verifyToken(token);
+                if (!verification.isValid()) {
+                    authenticationEventLogger.record(AuthenticationOutcome.from(verification.failure()), request);
+                } else {
+                    var userDetails = resolveUserDetails(verification);
+                    if (userDetails != null) {
+                        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationTokenBuilder.build(userDetails, request));
+                        authenticationEventLogger.record(AuthenticationOutcome.AUTHENTICATED, request);
+                    } else {
+                        authenticationEventLogger.record(AuthenticationOutcome.REVOKED, request);
+                    }
+                }
             }
-
         } catch (Exception e) {
-            LOGGER.error("Cannot set user authentication: {}", e.getMessage());
+            authenticationEventLogger.record(AuthenticationOutcome.ERROR, request, e.getClass().getSimpleName());
         }
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * This method resolves the user details of a verified token, from its claims in stateless authorities mode or
+     * from the user details service otherwise. Tokens issued without roles always go through the user details service.
+     * @param verification The verification result of the token.
+     * @return The user details, or null when the roles in the token have been revoked.
+     */
+    private UserDetails resolveUserDetails(TokenVerificationResult verification) {
+        if (!statelessAuthorities || verification.roles() == null) {
+            return userDetailsService.loadUserByUsername(verification.subject());
+        }
+        if (revocationChecks != null) {
+            var key = verification.subject() + ":" + String.join(",", verification.roles());
+            if (revocationChecks.getIfPresent(key) == null) {
+                var currentRoles = userDetailsService.loadUserByUsername(verification.subject()).getAuthorities().stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .collect(Collectors.toSet());
+                if (!currentRoles.containsAll(verification.roles())) return null;
+                revocationChecks.put(key, Boolean.TRUE);
+            }
+        }
+        return UserDetailsImpl.build(verification.subject(), verification.roles());
+    }
 }
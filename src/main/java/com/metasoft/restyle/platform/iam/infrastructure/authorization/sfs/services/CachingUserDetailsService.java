@@ -0,0 +1,28 @@
+package com.metasoft.restyle.platform.iam.infrastructure.authorization.sfs.services;
+
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+/**
+ * Caching User Details Service.
+ * <p>
+ * This class decorates a UserDetailsService with the {@link UserDetailsCache}. It is not a Spring bean, so
+ * {@link UserDetailsServiceImpl} stays the only UserDetailsService in the context.
+ * </p>
+ */
+public class CachingUserDetailsService implements UserDetailsService {
+
+    private final UserDetailsService delegate;
+    private final UserDetailsCache userDetailsCache;
+
+    public CachingUserDetailsService(UserDetailsService delegate, UserDetailsCache userDetailsCache) {
+        this.delegate = delegate;
+        this.userDetailsCache = userDetailsCache;
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return userDetailsCache.get(username, delegate::loadUserByUsername);
+    }
+}
@@ -0,0 +1,75 @@
+package com.metasoft.restyle.platform.iam.infrastructure.authorization.sfs.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.metasoft.restyle.platform.iam.domain.model.events.UserUpdatedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * User Details Cache.
+ * <p>
+ * This class keeps the user details loaded by the bearer filter for a bounded time, so authenticated requests do not
+ * query the user and its roles on every call. An entry is evicted as soon as the user is updated.
+ * Hit and miss counts are published under the {@code iam.user-details} cache metrics.
+ * </p>
+ */
+@Component
+public class UserDetailsCache {
+
+    private static final String CACHE_NAME = "iam.user-details";
+
+    private final Cache<String, UserDetails> cache;
+
+    public UserDetailsCache(@Value("${authorization.user-details.cache.enabled:true}") boolean enabled,
+                            @Value("${authorization.user-details.cache.max-size:10000}") long maxSize,
+                            @Value("${authorization.user-details.cache.ttl.minutes:5}") long ttlMinutes,
+                            MeterRegistry meterRegistry) {
+        if (!enabled) {
+            this.cache = null;
+            return;
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached user details, loading them with the given loader on a miss.
+     * @param username The username.
+     * @param loader The function that loads the user details from the database.
+     * @return The user details.
+     */
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        if (cache == null) return loader.apply(username);
+        return cache.get(username, loader);
+    }
+
+    /**
+     * Evicts the user details of the given username.
+     * @param username The username.
+     */
+    public void evict(String username) {
+        if (cache == null || username == null) return;
+        cache.invalidate(username);
+    }
+
+    /**
+     * Evicts the updated user once its changes are committed.
+     * @param event The user updated event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(UserUpdatedEvent event) {
+        evict(event.username());
+    }
+}
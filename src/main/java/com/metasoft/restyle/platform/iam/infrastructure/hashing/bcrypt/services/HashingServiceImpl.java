@@ -1,16 +1,74 @@
 package com.metasoft.restyle.platform.iam.infrastructure.hashing.bcrypt.services;
 
+import com.metasoft.restyle.platform.iam.application.internal.outboundservices.hashing.HashingCapacityExceededException;
 import com.metasoft.restyle.platform.iam.infrastructure.hashing.bcrypt.BCryptHashingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt hashing service.
+ * <p>
+ * The asynchronous methods run on a dedicated pool with one thread per available core by default and a bounded queue.
+ * When the queue is full the returned future fails immediately with {@link HashingCapacityExceededException}, so a
+ * burst of sign-in requests cannot hold more than the pool and queue size worth of request threads.
+ * The pool is published under the {@code iam.hashing} executor metrics.
+ * </p>
+ * <p>
+ * The BCrypt cost is taken from {@code authorization.hashing.bcrypt.strength} or, when it is 0, calibrated at startup
+ * as the highest cost whose hash takes no longer than {@code authorization.hashing.bcrypt.target-latency.millis} on
+ * this host, never below the library default of 10. A calibrated cost can differ between restarts and instances, so
+ * deployments with several instances should configure the cost explicitly. Only hashes stored with a lower cost are
+ * reported by {@link #needsRehash(String)}, so a password is never rehashed down to a cheaper cost.
+ * </p>
+ */
 @Service
-public class HashingServiceImpl implements BCryptHashingService {
+public class HashingServiceImpl implements BCryptHashingService, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HashingServiceImpl.class);
+    private static final int MIN_CALIBRATED_STRENGTH = 10;
+    private static final int MAX_CALIBRATED_STRENGTH = 16;
+    private static final int CALIBRATION_SAMPLES = 5;
 
+    private final int strength;
     private final BCryptPasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejections;
 
-    HashingServiceImpl() {
-        this.passwordEncoder = new BCryptPasswordEncoder();
+    public HashingServiceImpl(@Value("${authorization.hashing.bcrypt.strength:0}") int strength,
+                              @Value("${authorization.hashing.bcrypt.target-latency.millis:250}") long targetLatencyMillis,
+                              @Value("${authorization.hashing.pool-size:0}") int poolSize,
+                              @Value("${authorization.hashing.queue-capacity:64}") int queueCapacity,
+                              MeterRegistry meterRegistry) {
+        this.strength = strength > 0 ? strength : calibrateStrength(targetLatencyMillis);
+        this.passwordEncoder = new BCryptPasswordEncoder(this.strength);
+        LOGGER.info("BCrypt cost set to {}", this.strength);
+        var threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        var threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    var thread = new Thread(runnable, "bcrypt-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.rejections = Counter.builder("iam.hashing.rejections").register(meterRegistry);
+        new ExecutorServiceMetrics(executor, "iam.hashing", List.of()).bindTo(meterRegistry);
     }
 
     @Override
@@ -33,4 +91,79 @@ public class HashingServiceImpl implements BCryptHashingService {
         return passwordEncoder.matches(rawPassword, encodedPassword);
     }
 
+    @Override
+    public CompletableFuture<String> encodeAsync(CharSequence rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> matchesAsync(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean needsRehash(String encodedPassword) {
+        var storedStrength = strengthOf(encodedPassword);
+        return storedStrength > 0 && storedStrength < strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return needsRehash(encodedPassword);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    /**
+     * Returns the cost of a BCrypt hash such as {@code $2a$10$...}, or 0 when the value is not a BCrypt hash.
+     */
+    private static int strengthOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$'
+                || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') return 0;
+        try {
+            return Integer.parseInt(encodedPassword, 4, 6, 10);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Takes the median of several hashes at the minimum cost and raises the cost while the doubled estimate stays
+     * within the target.
+     */
+    private static int calibrateStrength(long targetLatencyMillis) {
+        var encoder = new BCryptPasswordEncoder(MIN_CALIBRATED_STRENGTH);
+        encoder.encode("calibration");
+        var samples = new long[CALIBRATION_SAMPLES];
+        for (int i = 0; i < samples.length; i++) {
+            var start = System.nanoTime();
+            encoder.encode("calibration");
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        var estimatedNanos = samples[samples.length / 2];
+        var targetNanos = TimeUnit.MILLISECONDS.toNanos(targetLatencyMillis);
+        var calibrated = MIN_CALIBRATED_STRENGTH;
+        while (calibrated < MAX_CALIBRATED_STRENGTH && estimatedNanos * 2 <= targetNanos) {
+            calibrated++;
+            estimatedNanos *= 2;
+        }
+        return calibrated;
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            return CompletableFuture.failedFuture(new HashingCapacityExceededException());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
 }
@@ -0,0 +1,32 @@
+package com.metasoft.restyle.platform.iam.infrastructure.persistence.jpa.repositories;
+
+import com.metasoft.restyle.platform.iam.domain.model.aggregates.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Revokes the token with the given digest when it is still active.
+     * @return 1 when the token was revoked by this call, 0 when it is unknown, expired or already revoked.
+     */
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.tokenHash = :tokenHash and t.revoked = false and t.expiresAt > :now")
+    int revokeActive(@Param("tokenHash") String tokenHash, @Param("now") Date now);
+
+    /**
+     * Deletes the tokens that can no longer be used.
+     * @return The number of deleted tokens.
+     */
+    @Modifying
+    @Query("delete from RefreshToken t where t.revoked = true or t.expiresAt <= :now")
+    int deleteRevokedOrExpired(@Param("now") Date now);
+}
@@ -1,13 +1,30 @@
 package com.metasoft.restyle.platform.iam.infrastructure.persistence.jpa.repositories;
 
 import com.metasoft.restyle.platform.iam.domain.model.aggregates.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     boolean existsByUsername(String username);
+
+    @EntityGraph(attributePaths = "roles")
+    @Query("select u from User u")
+    List<User> findAllWithRoles();
+
+    // Ordered by id so that the rows of each user, one per role, arrive together and are read as one user; no distinct,
+    // which would make the database build and sort the whole result before returning the first row
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select e from User e left join fetch e.roles order by e.id")
+    Stream<User> streamAll();
 }
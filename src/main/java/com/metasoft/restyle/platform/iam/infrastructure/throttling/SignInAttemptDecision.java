@@ -0,0 +1,24 @@
+package com.metasoft.restyle.platform.iam.infrastructure.throttling;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of a sign-in attempt checked by the {@link SignInRateLimiter}.
+ * @param allowed whether the attempt may proceed
+ * @param retryAfterSeconds for a rejected attempt, the seconds until the oldest attempt counted by the limit that
+ *                          rejected it leaves its window; 0 for an allowed attempt
+ */
+public record SignInAttemptDecision(boolean allowed, long retryAfterSeconds) {
+
+    public static final SignInAttemptDecision ALLOWED = new SignInAttemptDecision(true, 0);
+
+    /**
+     * Creates the decision for a rejected attempt, rounding the wait up to whole seconds and to at least one second.
+     * @param retryAfterNanos The time until the client may retry.
+     * @return The decision.
+     */
+    public static SignInAttemptDecision rejected(long retryAfterNanos) {
+        var seconds = (retryAfterNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+        return new SignInAttemptDecision(false, Math.max(1, seconds));
+    }
+}
@@ -0,0 +1,97 @@
+package com.metasoft.restyle.platform.iam.infrastructure.throttling;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Sign-In Rate Limiter.
+ * <p>
+ * This class guards the sign-in endpoint against brute force. Every attempt is counted per remote address, and failed
+ * attempts are counted per username, each in its own {@link SlidingWindowCounter}. An attempt is rejected before the
+ * user is loaded or the password is hashed when either count has reached its limit.
+ * Counters live in bounded Caffeine maps and are evicted once idle for longer than their window.
+ * Rejections are counted in the {@code iam.sign-in.blocked} metric, tagged by reason.
+ * </p>
+ */
+@Component
+public class SignInRateLimiter {
+
+    private static final long MAX_TRACKED_KEYS = 100_000;
+
+    private final boolean enabled;
+    private final int maxAttemptsPerAddress;
+    private final int maxFailuresPerUsername;
+    private final Duration addressWindow;
+    private final Duration usernameWindow;
+    private final Cache<String, SlidingWindowCounter> attemptsByAddress;
+    private final Cache<String, SlidingWindowCounter> failuresByUsername;
+    private final Counter blockedByAddress;
+    private final Counter blockedByUsername;
+
+    public SignInRateLimiter(@Value("${authorization.sign-in.rate-limit.enabled:true}") boolean enabled,
+                             @Value("${authorization.sign-in.rate-limit.per-address.max-attempts:20}") int maxAttemptsPerAddress,
+                             @Value("${authorization.sign-in.rate-limit.per-address.window.seconds:60}") long addressWindowSeconds,
+                             @Value("${authorization.sign-in.rate-limit.per-username.max-failures:5}") int maxFailuresPerUsername,
+                             @Value("${authorization.sign-in.rate-limit.per-username.window.seconds:900}") long usernameWindowSeconds,
+                             MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxAttemptsPerAddress = maxAttemptsPerAddress;
+        this.maxFailuresPerUsername = maxFailuresPerUsername;
+        this.addressWindow = Duration.ofSeconds(addressWindowSeconds);
+        this.usernameWindow = Duration.ofSeconds(usernameWindowSeconds);
+        this.attemptsByAddress = Caffeine.newBuilder().expireAfterAccess(addressWindow).maximumSize(MAX_TRACKED_KEYS).build();
+        this.failuresByUsername = Caffeine.newBuilder().expireAfterAccess(usernameWindow).maximumSize(MAX_TRACKED_KEYS).build();
+        this.blockedByAddress = Counter.builder("iam.sign-in.blocked").tag("reason", "address").register(meterRegistry);
+        this.blockedByUsername = Counter.builder("iam.sign-in.blocked").tag("reason", "username").register(meterRegistry);
+    }
+
+    /**
+     * Counts a sign-in attempt and tells whether it may proceed.
+     * @param username The username of the attempt.
+     * @param remoteAddress The remote address of the attempt.
+     * @return The decision, which for a rejected attempt tells how long the limit that rejected it still holds.
+     */
+    public SignInAttemptDecision tryAcquire(String username, String remoteAddress) {
+        if (!enabled) return SignInAttemptDecision.ALLOWED;
+        var now = System.nanoTime();
+        if (username != null) {
+            var failures = failuresByUsername.getIfPresent(username);
+            if (failures != null && failures.sum(now) >= maxFailuresPerUsername) {
+                blockedByUsername.increment();
+                return SignInAttemptDecision.rejected(failures.nanosUntilOldestExpires(now));
+            }
+        }
+        if (remoteAddress != null) {
+            var attempts = attemptsByAddress.get(remoteAddress, key -> new SlidingWindowCounter(addressWindow.toNanos()));
+            if (attempts.increment(now) > maxAttemptsPerAddress) {
+                blockedByAddress.increment();
+                return SignInAttemptDecision.rejected(attempts.nanosUntilOldestExpires(now));
+            }
+        }
+        return SignInAttemptDecision.ALLOWED;
+    }
+
+    /**
+     * Counts a failed sign-in for the given username.
+     * @param username The username.
+     */
+    public void recordFailure(String username) {
+        if (!enabled || username == null) return;
+        failuresByUsername.get(username, key -> new SlidingWindowCounter(usernameWindow.toNanos())).increment(System.nanoTime());
+    }
+
+    /**
+     * Clears the failed sign-ins of the given username after a successful sign-in.
+     * @param username The username.
+     */
+    public void recordSuccess(String username) {
+        if (!enabled || username == null) return;
+        failuresByUsername.invalidate(username);
+    }
+}
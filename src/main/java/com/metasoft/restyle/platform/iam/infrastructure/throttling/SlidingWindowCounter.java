@@ -0,0 +1,71 @@
+package com.metasoft.restyle.platform.iam.infrastructure.throttling;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sliding Window Counter.
+ * <p>
+ * Lock-free event counter over a sliding window, split in a fixed number of buckets. Each bucket stores the index of
+ * the time slice it currently counts, and is reset with a compare-and-set when a new slice reaches it. An increment
+ * racing with that reset may be lost, which only makes the limit slightly more permissive.
+ * </p>
+ */
+public class SlidingWindowCounter {
+
+    private static final int BUCKETS = 10;
+
+    private final long bucketNanos;
+    private final AtomicLongArray slices = new AtomicLongArray(BUCKETS);
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    public SlidingWindowCounter(long windowNanos) {
+        this.bucketNanos = Math.max(1, windowNanos / BUCKETS);
+        for (int i = 0; i < BUCKETS; i++) slices.set(i, Long.MIN_VALUE);
+    }
+
+    /**
+     * Counts one event at the given time.
+     * @param nanoTime The current {@link System#nanoTime()}.
+     * @return The number of events in the window, including this one.
+     */
+    public long increment(long nanoTime) {
+        var slice = Math.floorDiv(nanoTime, bucketNanos);
+        var index = (int) Math.floorMod(slice, BUCKETS);
+        var current = slices.get(index);
+        if (current != slice && slices.compareAndSet(index, current, slice)) {
+            counts.set(index, 0);
+        }
+        counts.incrementAndGet(index);
+        return sum(nanoTime);
+    }
+
+    /**
+     * Returns the number of events in the window ending at the given time.
+     * @param nanoTime The current {@link System#nanoTime()}.
+     * @return The number of events.
+     */
+    public long sum(long nanoTime) {
+        var slice = Math.floorDiv(nanoTime, bucketNanos);
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (slice - slices.get(i) < BUCKETS) total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Returns the time until the oldest event still in the window leaves it.
+     * @param nanoTime The current {@link System#nanoTime()}.
+     * @return The time in nanoseconds, or 0 when the window holds no events.
+     */
+    public long nanosUntilOldestExpires(long nanoTime) {
+        var slice = Math.floorDiv(nanoTime, bucketNanos);
+        var oldest = Long.MAX_VALUE;
+        for (int i = 0; i < BUCKETS; i++) {
+            var bucketSlice = slices.get(i);
+            if (counts.get(i) > 0 && slice - bucketSlice < BUCKETS) oldest = Math.min(oldest, bucketSlice);
+        }
+        if (oldest == Long.MAX_VALUE) return 0;
+        return Math.max(0, (oldest + BUCKETS) * bucketNanos - nanoTime);
+    }
+}
@@ -1,10 +1,12 @@
 package com.metasoft.restyle.platform.iam.infrastructure.tokens.jwt;
 
 import com.metasoft.restyle.platform.iam.application.internal.outboundservices.tokens.TokenService;
+import com.metasoft.restyle.platform.iam.infrastructure.tokens.jwt.model.TokenVerificationResult;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.security.core.Authentication;
 
 public interface BearerTokenService extends TokenService {
     String getBearerTokenFrom(HttpServletRequest request);
     String generateToken(Authentication authentication);
+    TokenVerificationResult verifyToken(String token);
 }
@@ -0,0 +1,106 @@
+package com.metasoft.restyle.platform.iam.infrastructure.tokens.jwt.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * Verified Token Cache.
+ * <p>
+ * This class keeps the claims of tokens that already passed signature verification, keyed by the SHA-256 digest of
+ * the token, so repeated requests with the same bearer token skip the HMAC verification. The raw token is never
+ * stored. Each entry expires after the configured time to live or at the token expiration, whichever comes first.
+ * Hit and miss counts are published under the {@code jwt.verified-tokens} cache metrics.
+ * </p>
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "jwt.verified-tokens";
+
+    private final Cache<String, Claims> cache;
+
+    public VerifiedTokenCache(@Value("${authorization.jwt.cache.enabled:false}") boolean enabled,
+                              @Value("${authorization.jwt.cache.max-size:10000}") long maxSize,
+                              @Value("${authorization.jwt.cache.ttl.minutes:30}") long ttlMinutes,
+                              MeterRegistry meterRegistry) {
+        if (!enabled) {
+            this.cache = null;
+            return;
+        }
+        var ttl = Duration.ofMinutes(ttlMinutes);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ClaimsExpiry(ttl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached claims of the given token.
+     * @param token The raw bearer token.
+     * @return The verified claims, or null when the token is not cached or the cache is disabled.
+     */
+    public Claims get(String token) {
+        if (cache == null || token == null) return null;
+        return cache.getIfPresent(digestOf(token));
+    }
+
+    /**
+     * Stores the claims of a token that has just been verified.
+     * @param token The raw bearer token.
+     * @param claims The verified claims of the token.
+     */
+    public void put(String token, Claims claims) {
+        if (cache == null || claims.getExpiration() == null) return;
+        cache.put(digestOf(token), claims);
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    private static String digestOf(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Expires each entry at the token expiration or after the time to live, whichever comes first.
+     */
+    private record ClaimsExpiry(Duration ttl) implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            var untilTokenExpiration = Duration.ofMillis(claims.getExpiration().getTime() - System.currentTimeMillis());
+            var lifetime = untilTokenExpiration.compareTo(ttl) < 0 ? untilTokenExpiration : ttl;
+            return Math.max(0, lifetime.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.metasoft.restyle.platform.iam.infrastructure.tokens.jwt.model;
+
+/**
+ * Reasons why a bearer token can fail verification.
+ */
+public enum TokenVerificationFailure {
+    INVALID_SIGNATURE,
+    MALFORMED,
+    EXPIRED,
+    UNSUPPORTED,
+    EMPTY,
+    INVALID
+}
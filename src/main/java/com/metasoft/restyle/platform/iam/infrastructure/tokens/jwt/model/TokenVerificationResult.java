@@ -0,0 +1,26 @@
+package com.metasoft.restyle.platform.iam.infrastructure.tokens.jwt.model;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Token verification result
+ * <p>
+ *     Outcome of verifying a bearer token once. A valid result carries the subject, the expiration and the roles of the
+ *     token, the roles being null for tokens issued without them; an invalid one carries the failure reason.
+ * </p>
+ */
+public record TokenVerificationResult(String subject, Date expiration, List<String> roles, TokenVerificationFailure failure) {
+
+    public static TokenVerificationResult valid(String subject, Date expiration, List<String> roles) {
+        return new TokenVerificationResult(subject, expiration, roles, null);
+    }
+
+    public static TokenVerificationResult invalid(TokenVerificationFailure failure) {
+        return new TokenVerificationResult(null, null, null, failure);
+    }
+
+    public boolean isValid() {
+        return failure == null;
+    }
+}
@@ -1,6 +1,9 @@
 package com.metasoft.restyle.platform.iam.infrastructure.tokens.jwt.services;
 
 import com.metasoft.restyle.platform.iam.infrastructure.tokens.jwt.BearerTokenService;
+import com.metasoft.restyle.platform.iam.infrastructure.tokens.jwt.cache.VerifiedTokenCache;
+import com.metasoft.restyle.platform.iam.infrastructure.tokens.jwt.model.TokenVerificationFailure;
+import com.metasoft.restyle.platform.iam.infrastructure.tokens.jwt.model.TokenVerificationResult;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
@@ -10,12 +13,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.List;
 import java.util.function.Function;
 import java.util.HashMap;
 
@@ -29,12 +34,37 @@ public class TokenServiceImpl implements BearerTokenService {
     private static final String AUTHORIZATION_PARAMETER_NAME = "Authorization";
     private static final String BEARER_TOKEN_PREFIX = "Bearer ";
     private static final int TOKEN_BEGIN_INDEX = 7;
+    private static final String ROLES_CLAIM_NAME = "roles";
 
-    @Value("${authorization.jwt.secret}")
-    private String secret;
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+    private final int expirationDays;
+    private final int expirationMinutes;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    @Value("${authorization.jwt.expiration.days}")
-    private int expirationDays;
+    /**
+     * Builds the signing key and the JWT parser once, so they are shared by every request.
+     * Construye la clave de firma y el parser JWT una sola vez, para compartirlos entre todas las solicitudes.
+     *
+     * @param secret the HMAC secret from the application properties
+     *               el secreto HMAC de las propiedades de la aplicación
+     * @param expirationDays the token lifetime in days
+     *                       la duración del token en días
+     * @param expirationMinutes the token lifetime in minutes, used instead of the days when positive
+     *                          la duración del token en minutos, usada en lugar de los días cuando es positiva
+     * @param verifiedTokenCache the cache of already verified tokens
+     *                           la caché de tokens ya verificados
+     */
+    public TokenServiceImpl(@Value("${authorization.jwt.secret}") String secret,
+                            @Value("${authorization.jwt.expiration.days}") int expirationDays,
+                            @Value("${authorization.jwt.expiration.minutes:0}") int expirationMinutes,
+                            VerifiedTokenCache verifiedTokenCache) {
+        this.signingKey = buildSigningKey(secret);
+        this.jwtParser = Jwts.parser().verifyWith(signingKey).build();
+        this.expirationDays = expirationDays;
+        this.expirationMinutes = expirationMinutes;
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
 
     /**
      * Generates a JWT token using the provided authentication object.
@@ -48,7 +78,8 @@ public class TokenServiceImpl implements BearerTokenService {
      */
     @Override
     public String generateToken(Authentication authentication) {
-        return buildTokenWithDefaultParameters(authentication.getName());
+        var roles = authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList();
+        return buildTokenWithDefaultParameters(authentication.getName(), roles);
     }
 
     /**
@@ -60,30 +91,51 @@ public class TokenServiceImpl implements BearerTokenService {
      * @return a JWT token as a String
      *         un token JWT como una cadena
      */
+    @Override
     public String generateToken(String username) {
-        return buildTokenWithDefaultParameters(username);
+        return buildTokenWithDefaultParameters(username, null);
     }
 
     /**
-     * Builds a JWT token with the default expiration time using the provided username.
-     * Construye un token JWT con el tiempo de expiración predeterminado usando el nombre de usuario proporcionado.
+     * Generates a JWT token for the given username, embedding its role authorities.
+     * Genera un token JWT para el nombre de usuario proporcionado, incluyendo sus roles.
+     *
+     * @param username the username for which the token is to be generated
+     *                 el nombre de usuario para el cual se generará el token
+     * @param roles the role names of the user
+     *              los nombres de los roles del usuario
+     * @return a JWT token as a String
+     *         un token JWT como una cadena
+     */
+    @Override
+    public String generateToken(String username, List<String> roles) {
+        return buildTokenWithDefaultParameters(username, roles);
+    }
+
+    /**
+     * Builds a JWT token with the default expiration time using the provided username and roles.
+     * Construye un token JWT con el tiempo de expiración predeterminado usando el nombre de usuario y los roles proporcionados.
      *
      * @param username the username to be included in the token
      *                 el nombre de usuario que se incluirá en el token
+     * @param roles the role names to be included in the token, or null to leave them out
+     *              los nombres de los roles que se incluirán en el token, o null para omitirlos
      * @return a JWT token as a String
      *         un token JWT como una cadena
      */
-    private String buildTokenWithDefaultParameters(String username) {
+    private String buildTokenWithDefaultParameters(String username, List<String> roles) {
         var issuedAt = new Date();
-        var expiration = DateUtils.addDays(issuedAt, expirationDays);
-        var key = getSigningKey();
+        var expiration = expirationMinutes > 0
+                ? DateUtils.addMinutes(issuedAt, expirationMinutes)
+                : DateUtils.addDays(issuedAt, expirationDays);
         var claims = new HashMap<String, Object>();
         claims.put("sub", username);
         claims.put("iat", issuedAt.getTime() / 1000); 
         claims.put("exp", expiration.getTime() / 1000); 
+        if (roles != null) claims.put(ROLES_CLAIM_NAME, roles);
         return Jwts.builder()
                 .claims(claims)
-                .signWith(key)
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -112,22 +164,64 @@ public class TokenServiceImpl implements BearerTokenService {
      */
     @Override
     public boolean validateToken(String token) {
+        return verifyToken(token).isValid();
+    }
+
+    /**
+     * Verifies the given JWT token with a single parse and returns its subject and expiration, or the failure reason.
+     * Tokens found in the verified token cache are not parsed again.
+     * Verifica el token JWT proporcionado con un solo análisis y devuelve su sujeto y expiración, o el motivo del fallo.
+     * Los tokens que están en la caché de tokens verificados no se vuelven a analizar.
+     *
+     * @param token the JWT token to be verified
+     *              el token JWT que se va a verificar
+     * @return the verification result
+     *         el resultado de la verificación
+     */
+    @Override
+    public TokenVerificationResult verifyToken(String token) {
+        var cachedClaims = verifiedTokenCache.get(token);
+        if (cachedClaims != null) {
+            return toVerificationResult(cachedClaims);
+        }
         try {
-            Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token);
-            LOGGER.info("Token is valid");
-            return true;
+            var claims = extractAllClaims(token);
+            verifiedTokenCache.put(token, claims);
+            return toVerificationResult(claims);
         } catch (SignatureException e) {
-            LOGGER.error("Invalid JWT signature: {}", e.getMessage());
+            LOGGER.debug("Invalid JWT signature: {}", e.getMessage());
+            return TokenVerificationResult.invalid(TokenVerificationFailure.INVALID_SIGNATURE);
         } catch (MalformedJwtException e) {
-            LOGGER.error("Invalid JWT token: {}", e.getMessage());
+            LOGGER.debug("Invalid JWT token: {}", e.getMessage());
+            return TokenVerificationResult.invalid(TokenVerificationFailure.MALFORMED);
         } catch (ExpiredJwtException e) {
-            LOGGER.error("Expired JWT token: {}", e.getMessage());
+            LOGGER.debug("Expired JWT token: {}", e.getMessage());
+            return TokenVerificationResult.invalid(TokenVerificationFailure.EXPIRED);
         } catch (UnsupportedJwtException e) {
-            LOGGER.error("Unsupported JWT token: {}", e.getMessage());
+            LOGGER.debug("Unsupported JWT token: {}", e.getMessage());
+            return TokenVerificationResult.invalid(TokenVerificationFailure.UNSUPPORTED);
         } catch (IllegalArgumentException e) {
-            LOGGER.error("JWT claims string is empty: {}", e.getMessage());
+            LOGGER.debug("JWT claims string is empty: {}", e.getMessage());
+            return TokenVerificationResult.invalid(TokenVerificationFailure.EMPTY);
+        } catch (JwtException e) {
+            LOGGER.debug("Invalid JWT token: {}", e.getMessage());
+            return TokenVerificationResult.invalid(TokenVerificationFailure.INVALID);
         }
-        return false;
+    }
+
+    /**
+     * Builds a valid verification result from the verified claims.
+     * Construye un resultado de verificación válido a partir de los reclamos verificados.
+     *
+     * @param claims the verified claims
+     *               los reclamos verificados
+     * @return the verification result
+     *         el resultado de la verificación
+     */
+    private TokenVerificationResult toVerificationResult(Claims claims) {
+        List<?> roles = claims.get(ROLES_CLAIM_NAME, List.class);
+        var roleNames = roles != null ? roles.stream().map(String::valueOf).toList() : null;
+        return TokenVerificationResult.valid(claims.getSubject(), claims.getExpiration(), roleNames);
     }
 
     /**
@@ -158,17 +252,19 @@ public class TokenServiceImpl implements BearerTokenService {
      *         el objeto Claims que contiene todos los reclamos
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token).getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
     /**
-     * Retrieves the signing key from the application properties.
-     * Recupera la clave de firma de las propiedades de la aplicación.
+     * Derives the signing key from the secret in the application properties.
+     * Deriva la clave de firma a partir del secreto de las propiedades de la aplicación.
      *
+     * @param secret the HMAC secret
+     *               el secreto HMAC
      * @return the SecretKey used for signing the JWT token
      *         la clave secreta utilizada para firmar el token JWT
      */
-    private SecretKey getSigningKey() {
+    private static SecretKey buildSigningKey(String secret) {
         byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
         return Keys.hmacShaKeyFor(keyBytes);
     }
@@ -30,13 +30,13 @@ public class IamContextFacade {
     }
 
     /**
-     * Creates a user with the given username and password.
+     * Creates a user with the given username and password, and the default role.
      * @param username The username of the user.
      * @param password The password of the user.
      * @return The id of the created user.
      */
     public Long createUser(String username, String password, String email, String firstName, String paternalSurname, String maternalSurname, String description, String phone, String image) {
-        var signUpCommand = new SignUpCommand(username, password, List.of(Role.getDefaultRole()), email, firstName, paternalSurname, maternalSurname, description, phone, image);
+        var signUpCommand = new SignUpCommand(username, password, List.of(), email, firstName, paternalSurname, maternalSurname, description, phone, image);
         var result = userCommandService.handle(signUpCommand);
         if (result.isEmpty()) return 0L;
         return result.get().getId();
@@ -1,7 +1,15 @@
 package com.metasoft.restyle.platform.iam.interfaces.rest;
 
+import com.metasoft.restyle.platform.iam.application.internal.outboundservices.hashing.HashingCapacityExceededException;
+import com.metasoft.restyle.platform.iam.domain.model.aggregates.User;
+import com.metasoft.restyle.platform.iam.domain.model.commands.IssueRefreshTokenCommand;
+import com.metasoft.restyle.platform.iam.domain.model.commands.RefreshAccessTokenCommand;
+import com.metasoft.restyle.platform.iam.domain.model.commands.RevokeRefreshTokenCommand;
+import com.metasoft.restyle.platform.iam.domain.services.RefreshTokenCommandService;
 import com.metasoft.restyle.platform.iam.domain.services.UserCommandService;
+import com.metasoft.restyle.platform.iam.infrastructure.throttling.SignInRateLimiter;
 import com.metasoft.restyle.platform.iam.interfaces.rest.resources.AuthenticatedUserResource;
+import com.metasoft.restyle.platform.iam.interfaces.rest.resources.RefreshTokenResource;
 import com.metasoft.restyle.platform.iam.interfaces.rest.resources.SignInResource;
 import com.metasoft.restyle.platform.iam.interfaces.rest.resources.SignUpResource;
 import com.metasoft.restyle.platform.iam.interfaces.rest.resources.UserResource;
@@ -10,35 +18,77 @@ import com.metasoft.restyle.platform.iam.interfaces.rest.transform.SignInCommand
 import com.metasoft.restyle.platform.iam.interfaces.rest.transform.SignUpCommandFromResourceAssembler;
 import com.metasoft.restyle.platform.iam.interfaces.rest.transform.UserResourceFromEntityAssembler;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Optional;
+
 @RestController
 @RequestMapping(value = "/api/v1/authentication", produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
 @Tag(name = "Authentication", description = "Authentication endpoints.")
 public class AuthenticationController {
 
     private final UserCommandService userCommandService;
+    private final RefreshTokenCommandService refreshTokenCommandService;
+    private final SignInRateLimiter signInRateLimiter;
 
-    public AuthenticationController(UserCommandService userCommandService) {
+    public AuthenticationController(UserCommandService userCommandService, RefreshTokenCommandService refreshTokenCommandService, SignInRateLimiter signInRateLimiter) {
         this.userCommandService = userCommandService;
+        this.refreshTokenCommandService = refreshTokenCommandService;
+        this.signInRateLimiter = signInRateLimiter;
     }
 
     @PostMapping("/sign-in")
-    public ResponseEntity<AuthenticatedUserResource> SignIn(@RequestBody SignInResource signInResource) {
+    public ResponseEntity<AuthenticatedUserResource> SignIn(@RequestBody SignInResource signInResource, HttpServletRequest request) {
+        var attempt = signInRateLimiter.tryAcquire(signInResource.username(), request.getRemoteAddr());
+        if (!attempt.allowed())
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(attempt.retryAfterSeconds())).build();
+
         var signInCommand = SignInCommandFromResourceAssembler.toCommandFromResource(signInResource);
-        var authenticatedUser = userCommandService.handle(signInCommand);
+        Optional<ImmutablePair<User, String>> authenticatedUser;
+        try {
+            authenticatedUser = userCommandService.handle(signInCommand);
+        } catch (HashingCapacityExceededException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            signInRateLimiter.recordFailure(signInResource.username());
+            throw e;
+        }
+        signInRateLimiter.recordSuccess(signInResource.username());
         if (authenticatedUser.isEmpty()) return ResponseEntity.notFound().build();
 
-        var authenticatedUserResource = AuthenticatedUserResourceFromEntityAssembler.toResourceFromEntity(authenticatedUser.get().getLeft(), authenticatedUser.get().getRight());
+        var user = authenticatedUser.get().getLeft();
+        var refreshToken = refreshTokenCommandService.handle(new IssueRefreshTokenCommand(user.getId()));
+        var authenticatedUserResource = AuthenticatedUserResourceFromEntityAssembler.toResourceFromEntity(user, authenticatedUser.get().getRight(), refreshToken);
+        return ResponseEntity.ok(authenticatedUserResource);
+    }
+
+    @PostMapping("/refresh-token")
+    public ResponseEntity<AuthenticatedUserResource> refreshToken(@RequestBody RefreshTokenResource refreshTokenResource) {
+        var refreshed = refreshTokenCommandService.handle(new RefreshAccessTokenCommand(refreshTokenResource.refreshToken()));
+        if (refreshed.isEmpty()) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+
+        var tokens = refreshed.get().getRight();
+        var authenticatedUserResource = AuthenticatedUserResourceFromEntityAssembler.toResourceFromEntity(refreshed.get().getLeft(), tokens.accessToken(), tokens.refreshToken());
         return ResponseEntity.ok(authenticatedUserResource);
     }
 
+    @PostMapping("/sign-out")
+    public ResponseEntity<Void> signOut(@RequestBody RefreshTokenResource refreshTokenResource) {
+        refreshTokenCommandService.handle(new RevokeRefreshTokenCommand(refreshTokenResource.refreshToken()));
+        return ResponseEntity.noContent().build();
+    }
+
     @PostMapping("/sign-up")
     public ResponseEntity<UserResource> singUp(@RequestBody SignUpResource signUpResource) {
         var signUpCommand = SignUpCommandFromResourceAssembler.toCommandFromResource(signUpResource);
@@ -49,4 +99,9 @@ public class AuthenticationController {
         return new ResponseEntity<>(userResource, HttpStatus.CREATED);
     }
 
+    @ExceptionHandler(HashingCapacityExceededException.class)
+    public ResponseEntity<Void> hashingCapacityExceeded() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build();
+    }
+
 }
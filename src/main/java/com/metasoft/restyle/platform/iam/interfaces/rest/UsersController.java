@@ -8,10 +8,12 @@ import com.metasoft.restyle.platform.iam.interfaces.rest.resources.UpdateUserRes
 import com.metasoft.restyle.platform.iam.interfaces.rest.resources.UserResource;
 import com.metasoft.restyle.platform.iam.interfaces.rest.transform.UpdateUserCommandFromResourceAssembler;
 import com.metasoft.restyle.platform.iam.interfaces.rest.transform.UserResourceFromEntityAssembler;
+import com.metasoft.restyle.platform.shared.interfaces.rest.streaming.NdjsonResponseWriter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -22,10 +24,12 @@ public class UsersController {
 
     private final UserQueryService userQueryService;
     private final UserCommandService userCommandService;
+    private final NdjsonResponseWriter ndjsonResponseWriter;
 
-    public UsersController(UserQueryService userQueryService, UserCommandService userCommandService) {
+    public UsersController(UserQueryService userQueryService, UserCommandService userCommandService, NdjsonResponseWriter ndjsonResponseWriter) {
         this.userQueryService = userQueryService;
         this.userCommandService = userCommandService;
+        this.ndjsonResponseWriter = ndjsonResponseWriter;
     }
 
     @GetMapping
@@ -36,6 +40,11 @@ public class UsersController {
         return ResponseEntity.ok(userResources);
     }
 
+    @GetMapping(produces = NdjsonResponseWriter.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllUsers() {
+        return ndjsonResponseWriter.write(() -> userQueryService.stream(new GetAllUsersQuery()), UserResourceFromEntityAssembler::toResourceFromEntity);
+    }
+
     @GetMapping(value = "/{userId}")
     public ResponseEntity<UserResource> getUserById(@PathVariable Long userId) {
         var getUserByIdQuery = new GetUserByIdQuery(userId);
@@ -48,10 +57,7 @@ public class UsersController {
     @PutMapping(value = "/{userId}")
     public ResponseEntity<UserResource> updateUser(@PathVariable Long userId, @RequestBody UpdateUserResource resource) {
         var updateUserCommand = UpdateUserCommandFromResourceAssembler.toCommandFromResource(userId, resource);
-        userCommandService.hadle(updateUserCommand);
-
-        var getUserByIdQuery = new GetUserByIdQuery(userId);
-        var user = userQueryService.handle(getUserByIdQuery);
+        var user = userCommandService.hadle(updateUserCommand);
         if (user.isEmpty()) return ResponseEntity.notFound().build();
         var userResource = UserResourceFromEntityAssembler.toResourceFromEntity(user.get());
         return ResponseEntity.ok(userResource);
@@ -0,0 +1,4 @@
+package com.metasoft.restyle.platform.iam.interfaces.rest.resources;
+
+public record RefreshTokenResource(String refreshToken) {
+}
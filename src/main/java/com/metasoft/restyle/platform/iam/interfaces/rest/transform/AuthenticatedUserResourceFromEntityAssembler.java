@@ -4,7 +4,7 @@ import com.metasoft.restyle.platform.iam.domain.model.aggregates.User;
 import com.metasoft.restyle.platform.iam.interfaces.rest.resources.AuthenticatedUserResource;
 
 public class AuthenticatedUserResourceFromEntityAssembler {
-    public static AuthenticatedUserResource toResourceFromEntity(User user, String token) {
-        return new AuthenticatedUserResource(user.getId(), user.getUsername(), token);
+    public static AuthenticatedUserResource toResourceFromEntity(User user, String token, String refreshToken) {
+        return new AuthenticatedUserResource(user.getId(), user.getUsername(), token, refreshToken);
     }
 }
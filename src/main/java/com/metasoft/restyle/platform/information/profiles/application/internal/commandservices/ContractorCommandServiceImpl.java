@@ -6,6 +6,8 @@ import com.metasoft.restyle.platform.information.profiles.domain.services.Contra
 import com.metasoft.restyle.platform.information.profiles.infrastructure.persistence.jpa.repositories.ContractorRepository;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 public class ContractorCommandServiceImpl implements ContractorCommandService {
 
@@ -17,9 +19,8 @@ public class ContractorCommandServiceImpl implements ContractorCommandService {
 
 
     @Override
-    public Long handle(CreateContractorCommand command) {
+    public Optional<Contractor> handle(CreateContractorCommand command) {
         var contractor = new Contractor(command.description(), command.phone());
-        contractorRepository.save(contractor);
-        return contractor.getId();
+        return Optional.of(contractorRepository.save(contractor));
     }
 }
@@ -6,6 +6,8 @@ import com.metasoft.restyle.platform.information.profiles.domain.services.Remode
 import com.metasoft.restyle.platform.information.profiles.infrastructure.persistence.jpa.repositories.RemodelerRepository;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 public class RemodelerCommandServiceImpl implements RemodelerCommandService {
 
@@ -18,9 +20,8 @@ public class RemodelerCommandServiceImpl implements RemodelerCommandService {
 
     // Compare the implementation of this method with the handle method in ContractorCommandServiceImpl.java
     @Override
-    public Long handle(CreateRemodelerCommand command) {
+    public Optional<Remodeler> handle(CreateRemodelerCommand command) {
         var remodeler = new Remodeler(command.description(), command.phone(), command.subscription());
-        remodelerRepository.save(remodeler);
-        return remodeler.getId();
+        return Optional.of(remodelerRepository.save(remodeler));
     }
 }
@@ -6,11 +6,14 @@ import com.metasoft.restyle.platform.information.profiles.domain.model.queries.G
 import com.metasoft.restyle.platform.information.profiles.domain.services.ContractorQueryService;
 import com.metasoft.restyle.platform.information.profiles.infrastructure.persistence.jpa.repositories.ContractorRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
+@Transactional(readOnly = true)
 public class ContractorQueryServiceImpl implements ContractorQueryService {
 
     private final ContractorRepository contractorRepository;
@@ -21,11 +24,16 @@ public class ContractorQueryServiceImpl implements ContractorQueryService {
 
     @Override
     public List<Contractor> handle(GetAllContractorQuery query) {
-        return contractorRepository.findAll();
+        return contractorRepository.findAllWithProfile();
     }
 
     @Override
     public Optional<Contractor> handle(GetContractorByIdQuery query) {
-        return contractorRepository.findById(query.getId());
+        return contractorRepository.findWithProfileById(query.getId());
+    }
+
+    @Override
+    public Stream<Contractor> stream(GetAllContractorQuery query) {
+        return contractorRepository.streamAll();
     }
 }
@@ -7,11 +7,13 @@ import com.metasoft.restyle.platform.information.profiles.domain.model.queries.G
 import com.metasoft.restyle.platform.information.profiles.domain.services.RemodelerQueryService;
 import com.metasoft.restyle.platform.information.profiles.infrastructure.persistence.jpa.repositories.RemodelerRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Transactional(readOnly = true)
 public class RemodelerQueryServiceImpl implements RemodelerQueryService {
 
     private final RemodelerRepository remodelerRepository;
@@ -21,11 +23,11 @@ public class RemodelerQueryServiceImpl implements RemodelerQueryService {
     }
 
     public Optional<Remodeler> handle(GetRemodelerByIdQuery query) {
-        return remodelerRepository.findById(query.getId());
+        return remodelerRepository.findWithProfileById(query.getId());
     }
 
     @Override
     public List<Remodeler> handle(GetAllRemodelerQuery query) {
-           return remodelerRepository.findAll();
+           return remodelerRepository.findAllWithProfile();
     }
 }
@@ -2,10 +2,12 @@ package com.metasoft.restyle.platform.information.profiles.domain.model.aggregat
 
 import com.metasoft.restyle.platform.profiles.domain.model.aggregates.Profile;
 import com.metasoft.restyle.platform.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import com.metasoft.restyle.platform.shared.infrastructure.persistence.jpa.ids.PooledSequenceIdGenerator;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 
@@ -16,7 +18,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 public class Remodeler extends AuditableAbstractAggregateRoot<Remodeler> {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = PooledSequenceIdGenerator.NAME)
+    @GenericGenerator(name = PooledSequenceIdGenerator.NAME, type = PooledSequenceIdGenerator.class)
     private Long id;
 
     @OneToOne
@@ -1,9 +1,12 @@
 package com.metasoft.restyle.platform.information.profiles.domain.services;
 
+import com.metasoft.restyle.platform.information.profiles.domain.model.aggregates.Contractor;
 import com.metasoft.restyle.platform.information.profiles.domain.model.commands.CreateContractorCommand;
 
+import java.util.Optional;
+
 
 public interface ContractorCommandService {
-    Long handle(CreateContractorCommand command);
+    Optional<Contractor> handle(CreateContractorCommand command);
 
 }
@@ -6,10 +6,12 @@ import com.metasoft.restyle.platform.information.profiles.domain.model.queries.G
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ContractorQueryService {
     //boolean existsByPhone(String phone);
 
     List<Contractor> handle(GetAllContractorQuery query);
     Optional<Contractor> handle(GetContractorByIdQuery query);
+    Stream<Contractor> stream(GetAllContractorQuery query);
 }
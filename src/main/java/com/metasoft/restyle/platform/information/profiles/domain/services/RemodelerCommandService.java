@@ -1,9 +1,12 @@
 package com.metasoft.restyle.platform.information.profiles.domain.services;
 
 
+import com.metasoft.restyle.platform.information.profiles.domain.model.aggregates.Remodeler;
 import com.metasoft.restyle.platform.information.profiles.domain.model.commands.CreateRemodelerCommand;
 
+import java.util.Optional;
+
 
 public interface RemodelerCommandService {
-    Long handle(CreateRemodelerCommand command);
+    Optional<Remodeler> handle(CreateRemodelerCommand command);
 }
@@ -1,14 +1,29 @@
 package com.metasoft.restyle.platform.information.profiles.infrastructure.persistence.jpa.repositories;
 
 import com.metasoft.restyle.platform.information.profiles.domain.model.aggregates.Contractor;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ContractorRepository extends JpaRepository<Contractor, Long> {
     Optional<Contractor> findByPhone(String phone);
     //Boolean existsByPhone(String phone);
 
+    @Query("select e from Contractor e left join fetch e.profile")
+    List<Contractor> findAllWithProfile();
+
+    @Query("select e from Contractor e left join fetch e.profile where e.id = :id")
+    Optional<Contractor> findWithProfileById(Long id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select e from Contractor e left join fetch e.profile")
+    Stream<Contractor> streamAll();
 }
@@ -2,8 +2,10 @@ package com.metasoft.restyle.platform.information.profiles.infrastructure.persis
 
 import com.metasoft.restyle.platform.information.profiles.domain.model.aggregates.Remodeler;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,5 +13,11 @@ public interface RemodelerRepository extends JpaRepository<Remodeler, Long> {
     Optional<Remodeler> findByPhone(String phone);
     //boolean existsByPhone(String phone);
 
+    @Query("select e from Remodeler e left join fetch e.profile")
+    List<Remodeler> findAllWithProfile();
+
+    @Query("select e from Remodeler e left join fetch e.profile where e.id = :id")
+    Optional<Remodeler> findWithProfileById(Long id);
+
 }
 
@@ -8,11 +8,13 @@ import com.metasoft.restyle.platform.information.profiles.interfaces.rest.resour
 import com.metasoft.restyle.platform.information.profiles.interfaces.rest.resources.CreateContractorResource;
 import com.metasoft.restyle.platform.information.profiles.interfaces.rest.transform.ContractorResourceFromEntityAssembler;
 import com.metasoft.restyle.platform.information.profiles.interfaces.rest.transform.CreateContractorCommandFromResourceAssembler;
+import com.metasoft.restyle.platform.shared.interfaces.rest.streaming.NdjsonResponseWriter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -23,22 +25,18 @@ public class ContractorController {
 
     private final ContractorQueryService contractorQueryService;
     private final ContractorCommandService contractorCommandService;
+    private final NdjsonResponseWriter ndjsonResponseWriter;
 
-    public ContractorController(ContractorQueryService contractorQueryService, ContractorCommandService contractorCommandService) {
+    public ContractorController(ContractorQueryService contractorQueryService, ContractorCommandService contractorCommandService, NdjsonResponseWriter ndjsonResponseWriter) {
         this.contractorQueryService = contractorQueryService;
         this.contractorCommandService = contractorCommandService;
+        this.ndjsonResponseWriter = ndjsonResponseWriter;
     }
 
     @PostMapping
     public ResponseEntity<ContractorResource> createContractor(@RequestBody CreateContractorResource resource) {
         var createContractorCommand = CreateContractorCommandFromResourceAssembler.toCommandFromResource(resource);
-        var contractorId = contractorCommandService.handle(createContractorCommand);
-
-        if (contractorId == 0L) {
-            return ResponseEntity.badRequest().build();
-        }
-        var getContractorByIdQuery = new GetContractorByIdQuery(contractorId);
-        var contractor = contractorQueryService.handle(getContractorByIdQuery);
+        var contractor = contractorCommandService.handle(createContractorCommand);
 
         if (contractor.isEmpty()) {
             return ResponseEntity.badRequest().build();
@@ -64,4 +62,9 @@ public class ContractorController {
         var contractorResources = contractors.stream().map(ContractorResourceFromEntityAssembler::toResourceFromEntity).collect(Collectors.toList());
         return ResponseEntity.ok(contractorResources);
     }
+
+    @GetMapping(produces = NdjsonResponseWriter.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllContractors() {
+        return ndjsonResponseWriter.write(() -> contractorQueryService.stream(new GetAllContractorQuery()), ContractorResourceFromEntityAssembler::toResourceFromEntity);
+    }
 }
@@ -33,14 +33,7 @@ public class RemodelerController {
     public ResponseEntity<RemodelerResource>createRemodeler(@RequestBody CreateRemodelerResource resource) {
 
         var createRemodelerCommand = CreateRemodelerCommandFromResourceAssembler.toCommandFromResource(resource);
-        var remodelerId = remodelerCommandService.handle(createRemodelerCommand);
-
-        if (remodelerId == 0L) {
-            return ResponseEntity.badRequest().build();
-        }
-
-        var getRemodelerByIdQuery = new GetRemodelerByIdQuery(remodelerId);
-        var remodeler = remodelerQueryService.handle(getRemodelerByIdQuery);
+        var remodeler = remodelerCommandService.handle(createRemodelerCommand);
 
         if (remodeler.isEmpty()) {
             return ResponseEntity.badRequest().build();
@@ -2,11 +2,13 @@ package com.metasoft.restyle.platform.profiles.application.internal.commandservi
 
 import com.metasoft.restyle.platform.profiles.domain.model.aggregates.Profile;
 import com.metasoft.restyle.platform.profiles.domain.model.commands.CreateProfileCommand;
-import com.metasoft.restyle.platform.profiles.domain.model.valueobjects.EmailAddress;
 import com.metasoft.restyle.platform.profiles.domain.services.ProfileCommandService;
 import com.metasoft.restyle.platform.profiles.infrastructure.persistence.jpa.repositories.ProfileRepository;
+import com.metasoft.restyle.platform.shared.infrastructure.persistence.jpa.constraints.UniqueConstraintViolations;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 public class ProfileCommandServiceImpl implements ProfileCommandService {
     private final ProfileRepository profileRepository;
@@ -16,13 +18,10 @@ public class ProfileCommandServiceImpl implements ProfileCommandService {
     }
 
     @Override
-    public Long handle(CreateProfileCommand command) {
-        var emailAddress = new EmailAddress(command.email());
-        if (profileRepository.findByEmail(emailAddress).isPresent()) {
-            throw new IllegalArgumentException("Profile with email " + command.email() + " already exists");
-        }
+    public Optional<Profile> handle(CreateProfileCommand command) {
         var profile = new Profile(command.email(), command.password(),command.typeUser(), command.firstName(), command.paternalSurname(), command.maternalSurname());
-        profileRepository.save(profile);
-        return profile.getId();
+        var createdProfile = UniqueConstraintViolations.insertOrThrow(() -> profileRepository.saveAndFlush(profile), Profile.EMAIL_UNIQUE_CONSTRAINT,
+                () -> new IllegalArgumentException("Profile with email " + command.email() + " already exists"));
+        return Optional.of(createdProfile);
     }
 }
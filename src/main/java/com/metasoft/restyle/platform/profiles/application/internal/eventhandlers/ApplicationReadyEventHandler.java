@@ -1,5 +1,6 @@
 package com.metasoft.restyle.platform.profiles.application.internal.eventhandlers;
 
+import com.metasoft.restyle.platform.iam.application.internal.registries.RoleRegistry;
 import com.metasoft.restyle.platform.iam.domain.model.commands.SeedRolesCommand;
 import com.metasoft.restyle.platform.iam.domain.services.RoleCommandService;
 import org.slf4j.Logger;
@@ -15,10 +16,12 @@ public class ApplicationReadyEventHandler {
     private final Logger LOGGER = LoggerFactory.getLogger(ApplicationReadyEventHandler.class);
 
     private final RoleCommandService roleCommandService;
+    private final RoleRegistry roleRegistry;
 
 
-    public ApplicationReadyEventHandler(RoleCommandService roleCommandService) {
+    public ApplicationReadyEventHandler(RoleCommandService roleCommandService, RoleRegistry roleRegistry) {
         this.roleCommandService = roleCommandService;
+        this.roleRegistry = roleRegistry;
     }
 
     @EventListener
@@ -27,6 +30,7 @@ public class ApplicationReadyEventHandler {
         LOGGER.info("Starting to verify if roles seeding is needed for {} at {}", applicationName, getCurrentTimestamp());
         var seedRolesCommand = new SeedRolesCommand();
         roleCommandService.handle(seedRolesCommand);
+        roleRegistry.load();
         LOGGER.info("Roles seeding verification finished for {} at {}", applicationName, getCurrentTimestamp());
     }
 
@@ -7,11 +7,14 @@ import com.metasoft.restyle.platform.profiles.domain.model.queries.GetProfileByI
 import com.metasoft.restyle.platform.profiles.domain.services.ProfileQueryService;
 import com.metasoft.restyle.platform.profiles.infrastructure.persistence.jpa.repositories.ProfileRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
+@Transactional(readOnly = true)
 public class ProfileQueryServiceImpl implements ProfileQueryService {
 
     private final ProfileRepository profileRepository;
@@ -34,4 +37,9 @@ public class ProfileQueryServiceImpl implements ProfileQueryService {
     public List<Profile> handle(GetAllProfilesQuery query) {
         return profileRepository.findAll();
     }
+
+    @Override
+    public Stream<Profile> stream(GetAllProfilesQuery query) {
+        return profileRepository.streamAll();
+    }
 }
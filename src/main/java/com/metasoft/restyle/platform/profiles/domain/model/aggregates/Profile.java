@@ -3,9 +3,11 @@ package com.metasoft.restyle.platform.profiles.domain.model.aggregates;
 import com.metasoft.restyle.platform.profiles.domain.model.valueobjects.EmailAddress;
 import com.metasoft.restyle.platform.profiles.domain.model.valueobjects.PersonName;
 import com.metasoft.restyle.platform.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import com.metasoft.restyle.platform.shared.infrastructure.persistence.jpa.ids.PooledSequenceIdGenerator;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -16,10 +18,14 @@ import java.util.Date;
 @Setter
 @EntityListeners(AuditingEntityListener.class)
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = Profile.EMAIL_UNIQUE_CONSTRAINT, columnNames = "address"))
 public class Profile extends AuditableAbstractAggregateRoot<Profile> {
 
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_profiles_address";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = PooledSequenceIdGenerator.NAME)
+    @GenericGenerator(name = PooledSequenceIdGenerator.NAME, type = PooledSequenceIdGenerator.class)
     private Long id;
 
     @Embedded
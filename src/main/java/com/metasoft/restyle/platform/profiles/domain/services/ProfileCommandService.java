@@ -1,7 +1,10 @@
 package com.metasoft.restyle.platform.profiles.domain.services;
 
+import com.metasoft.restyle.platform.profiles.domain.model.aggregates.Profile;
 import com.metasoft.restyle.platform.profiles.domain.model.commands.CreateProfileCommand;
 
+import java.util.Optional;
+
 public interface ProfileCommandService {
-    Long handle(CreateProfileCommand command);
+    Optional<Profile> handle(CreateProfileCommand command);
 }
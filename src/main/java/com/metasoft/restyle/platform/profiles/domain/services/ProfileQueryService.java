@@ -7,9 +7,11 @@ import com.metasoft.restyle.platform.profiles.domain.model.queries.GetProfileByI
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ProfileQueryService {
     Optional<Profile> handle(GetProfileByEmailQuery query);
     Optional<Profile> handle(GetProfileByIdQuery query);
     List<Profile> handle(GetAllProfilesQuery query);
-}
\ No newline at end of file
+    Stream<Profile> stream(GetAllProfilesQuery query);
+}
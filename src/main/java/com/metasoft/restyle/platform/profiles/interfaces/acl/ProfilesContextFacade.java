@@ -1,5 +1,6 @@
 package com.metasoft.restyle.platform.profiles.interfaces.acl;
 
+import com.metasoft.restyle.platform.profiles.domain.model.aggregates.Profile;
 import com.metasoft.restyle.platform.profiles.domain.model.commands.CreateProfileCommand;
 import com.metasoft.restyle.platform.profiles.domain.model.queries.GetProfileByEmailQuery;
 import com.metasoft.restyle.platform.profiles.domain.model.valueobjects.EmailAddress;
@@ -19,7 +20,7 @@ public class ProfilesContextFacade {
 
     public Long createProfile(String email, String password, String typeUser, String firstName, String paternalSurname, String maternalSurname) {
         var createProfileCommand = new CreateProfileCommand(email,password, typeUser, firstName, paternalSurname, maternalSurname);
-        return profileCommandService.handle(createProfileCommand);
+        return profileCommandService.handle(createProfileCommand).map(Profile::getId).orElse(0L);
     }
 
     public Long getProfileIdByEmail(String email) {
@@ -8,11 +8,13 @@ import com.metasoft.restyle.platform.profiles.interfaces.rest.resources.CreatePr
 import com.metasoft.restyle.platform.profiles.interfaces.rest.resources.ProfileResource;
 import com.metasoft.restyle.platform.profiles.interfaces.rest.transform.CreateProfileCommandFromResourceAssembler;
 import com.metasoft.restyle.platform.profiles.interfaces.rest.transform.ProfileResourceFromEntityAssembler;
+import com.metasoft.restyle.platform.shared.interfaces.rest.streaming.NdjsonResponseWriter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -29,21 +31,18 @@ import java.util.stream.Collectors;
 public class ProfilesController {
     private final ProfileQueryService profileQueryService;
     private final ProfileCommandService profileCommandService;
+    private final NdjsonResponseWriter ndjsonResponseWriter;
 
-    public ProfilesController(ProfileQueryService profileQueryService, ProfileCommandService profileCommandService) {
+    public ProfilesController(ProfileQueryService profileQueryService, ProfileCommandService profileCommandService, NdjsonResponseWriter ndjsonResponseWriter) {
         this.profileQueryService = profileQueryService;
         this.profileCommandService = profileCommandService;
+        this.ndjsonResponseWriter = ndjsonResponseWriter;
     }
 
     @PostMapping
     public ResponseEntity<ProfileResource> createProfile(@RequestBody CreateProfileResource resource) {
         var createProfileCommand = CreateProfileCommandFromResourceAssembler.toCommandFromResource(resource);
-        var profileId = profileCommandService.handle(createProfileCommand);
-        if (profileId == 0L) {
-            return ResponseEntity.badRequest().build();
-        }
-        var getProfileByIdQuery = new GetProfileByIdQuery(profileId);
-        var profile = profileQueryService.handle(getProfileByIdQuery);
+        var profile = profileCommandService.handle(createProfileCommand);
 
         if (profile.isEmpty()) {
             return ResponseEntity.badRequest().build();
@@ -78,4 +77,9 @@ public class ProfilesController {
         var profileResources = profiles.stream().map(ProfileResourceFromEntityAssembler::toResourceFromEntity).collect(Collectors.toList());
         return ResponseEntity.ok(profileResources);
     }
+
+    @GetMapping(produces = NdjsonResponseWriter.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllProfiles() {
+        return ndjsonResponseWriter.write(() -> profileQueryService.stream(new GetAllProfilesQuery()), ProfileResourceFromEntityAssembler::toResourceFromEntity);
+    }
 }
@@ -2,17 +2,26 @@ package com.metasoft.restyle.platform.project.application.internal.commandservic
 
 import com.metasoft.restyle.platform.project.domain.model.aggregates.Project;
 import com.metasoft.restyle.platform.project.domain.model.commands.CreateProjectCommand;
+import com.metasoft.restyle.platform.project.domain.model.commands.CreateProjectsCommand;
 import com.metasoft.restyle.platform.project.domain.services.ProjectCommandService;
 import com.metasoft.restyle.platform.project.infrastructure.persistance.jpa.ProjectRepository;
+import com.metasoft.restyle.platform.shared.domain.model.valueobjects.BulkItemResult;
+import com.metasoft.restyle.platform.shared.infrastructure.persistence.jpa.constraints.ColumnCollation;
+import com.metasoft.restyle.platform.shared.infrastructure.persistence.jpa.constraints.UniqueConstraintViolations;
 import org.springframework.stereotype.Service;
 import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 @Service("com.metasoft.restyle.platform.project.application.internal.commandservices.ProjectCommandServiceImpl")
 @Primary
 public class ProjectCommandServiceImpl implements ProjectCommandService {
 
+    private static final String DUPLICATE_NAME_MESSAGE = "Project with same name already exists";
+
     private final ProjectRepository projectRepository;
 
     public ProjectCommandServiceImpl(ProjectRepository projectRepository) {
@@ -21,11 +30,38 @@ public class ProjectCommandServiceImpl implements ProjectCommandService {
 
     @Override
     public Optional<Project> handle(CreateProjectCommand command){
-        if(projectRepository.existsByName(command.name())){
-            throw new IllegalArgumentException("Project with same name already exists");
-        }
         var project = new Project(command);
-        var createdProject = projectRepository.save(project);
+        var createdProject = UniqueConstraintViolations.insertOrThrow(() -> projectRepository.saveAndFlush(project),
+                Project.NAME_UNIQUE_CONSTRAINT, () -> new IllegalArgumentException(DUPLICATE_NAME_MESSAGE));
         return Optional.of(createdProject);
     }
+
+    /**
+     * Creates the projects whose names are not taken, with one query for the existing names and one batched
+     * insert. Names are compared ignoring case and accents, as the column collation does; names repeated within the
+     * command are created once and rejected afterwards. A name taken concurrently after the lookup still fails the
+     * whole command through the unique constraint.
+     * @param command the command with the projects to create
+     * @return the result of each project, in command order
+     */
+    @Override
+    @Transactional
+    public List<BulkItemResult<Project>> handle(CreateProjectsCommand command) {
+        var names = command.projects().stream().map(CreateProjectCommand::name).toList();
+        var takenNames = ColumnCollation.newSet(projectRepository.findNamesByNameIn(names));
+        var results = new ArrayList<BulkItemResult<Project>>(names.size());
+        var projects = new ArrayList<Project>(names.size());
+        for (var projectCommand : command.projects()) {
+            if (!takenNames.add(projectCommand.name())) {
+                results.add(BulkItemResult.rejected(DUPLICATE_NAME_MESSAGE));
+                continue;
+            }
+            var project = new Project(projectCommand);
+            projects.add(project);
+            results.add(BulkItemResult.created(project));
+        }
+        UniqueConstraintViolations.insertOrThrow(() -> projectRepository.saveAllAndFlush(projects),
+                Project.NAME_UNIQUE_CONSTRAINT, () -> new IllegalArgumentException(DUPLICATE_NAME_MESSAGE));
+        return results;
+    }
 }
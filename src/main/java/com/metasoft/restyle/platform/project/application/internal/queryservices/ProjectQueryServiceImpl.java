@@ -8,12 +8,15 @@ import com.metasoft.restyle.platform.project.domain.services.ProjectQueryService
 import com.metasoft.restyle.platform.project.infrastructure.persistance.jpa.ProjectRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service("com.metasoft.restyle.platform.project.application.internal.queryservices.ProjectQueryServiceImpl")
 @Primary
+@Transactional(readOnly = true)
 public class ProjectQueryServiceImpl implements ProjectQueryService {
 
     private final ProjectRepository projectRepository;
@@ -37,4 +40,8 @@ public class ProjectQueryServiceImpl implements ProjectQueryService {
         return projectRepository.findById(query.id());
     }
 
+    @Override
+    public Stream<Project> stream(GetAllProjects query) {
+        return projectRepository.streamAll();
+    }
 }
@@ -1,9 +1,13 @@
 package com.metasoft.restyle.platform.project.domain.model.aggregates;
 
 import com.metasoft.restyle.platform.project.domain.model.commands.CreateProjectCommand;
+import com.metasoft.restyle.platform.shared.infrastructure.persistence.jpa.ids.PooledSequenceIdGenerator;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.data.domain.AbstractAggregateRoot;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -12,11 +16,17 @@ import java.util.Date;
 @Getter
 @Setter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = Project.NAME_UNIQUE_CONSTRAINT, columnNames = "name"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
 @EntityListeners(AuditingEntityListener.class)
 public class Project extends AbstractAggregateRoot<Project> {
 
+    public static final String NAME_UNIQUE_CONSTRAINT = "uk_projects_name";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = PooledSequenceIdGenerator.NAME)
+    @GenericGenerator(name = PooledSequenceIdGenerator.NAME, type = PooledSequenceIdGenerator.class)
     private Long id;
 
     @Column(nullable = false)
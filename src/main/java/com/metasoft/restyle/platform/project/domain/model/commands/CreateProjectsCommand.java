@@ -0,0 +1,17 @@
+package com.metasoft.restyle.platform.project.domain.model.commands;
+
+import java.util.List;
+
+public record CreateProjectsCommand(List<CreateProjectCommand> projects) {
+
+    public static final int MAX_PROJECTS = 500;
+
+    public CreateProjectsCommand {
+        if (projects == null || projects.isEmpty()) {
+            throw new IllegalArgumentException("projects cannot be null or empty");
+        }
+        if (projects.size() > MAX_PROJECTS) {
+            throw new IllegalArgumentException("projects cannot contain more than " + MAX_PROJECTS + " items");
+        }
+    }
+}
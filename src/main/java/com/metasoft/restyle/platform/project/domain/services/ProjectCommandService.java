@@ -2,10 +2,15 @@ package com.metasoft.restyle.platform.project.domain.services;
 
 import com.metasoft.restyle.platform.project.domain.model.aggregates.Project;
 import com.metasoft.restyle.platform.project.domain.model.commands.CreateProjectCommand;
+import com.metasoft.restyle.platform.project.domain.model.commands.CreateProjectsCommand;
+import com.metasoft.restyle.platform.shared.domain.model.valueobjects.BulkItemResult;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ProjectCommandService {
 
     Optional<Project> handle(CreateProjectCommand command);
+
+    List<BulkItemResult<Project>> handle(CreateProjectsCommand command);
 }
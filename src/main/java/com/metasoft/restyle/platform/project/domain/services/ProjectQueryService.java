@@ -7,10 +7,12 @@ import com.metasoft.restyle.platform.project.domain.model.queries.GetProjectById
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ProjectQueryService {
 
     List<Project> handle(GetAllProjects query);
     List<Project> handle(GetAllProjectsByBusinessIdQuery query);
     Optional<Project> handle(GetProjectByIdQuery query);
+    Stream<Project> stream(GetAllProjects query);
 }
@@ -1,13 +1,19 @@
 package com.metasoft.restyle.platform.project.infrastructure.persistance.jpa;
 
 import com.metasoft.restyle.platform.project.domain.model.aggregates.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.NonNullApi;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @NonNullApi
 @Repository
@@ -17,5 +23,12 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     boolean existsByName(@NonNull String name);
 
+    @Query("select e.name from Project e where e.name in :names")
+    List<String> findNamesByNameIn(@NonNull Collection<String> names);
+
     Optional<Project> findById(@NonNull Long id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select e from Project e")
+    Stream<Project> streamAll();
 }
@@ -1,6 +1,7 @@
 package com.metasoft.restyle.platform.project.interfaces.rest;
 
 import com.metasoft.restyle.platform.project.domain.model.aggregates.Project;
+import com.metasoft.restyle.platform.project.domain.model.commands.CreateProjectsCommand;
 import com.metasoft.restyle.platform.project.domain.model.queries.GetAllProjects;
 import com.metasoft.restyle.platform.project.domain.model.queries.GetAllProjectsByBusinessIdQuery;
 import com.metasoft.restyle.platform.project.domain.model.queries.GetProjectByIdQuery;
@@ -10,16 +11,21 @@ import com.metasoft.restyle.platform.project.interfaces.rest.resources.CreatePro
 import com.metasoft.restyle.platform.project.interfaces.rest.resources.ProjectResource;
 import com.metasoft.restyle.platform.project.interfaces.rest.transform.CreateProjectCommandFromResourceAssembler;
 import com.metasoft.restyle.platform.project.interfaces.rest.transform.ProjectResourceFromEntityAssembler;
+import com.metasoft.restyle.platform.shared.interfaces.rest.resources.BulkItemResultResource;
+import com.metasoft.restyle.platform.shared.interfaces.rest.streaming.NdjsonResponseWriter;
+import com.metasoft.restyle.platform.shared.interfaces.rest.transform.BulkItemResultResourceAssembler;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.context.annotation.Primary;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.MULTI_STATUS;
 
 @RestController("com.metasoft.restyle.platform.project.interfaces.rest.ProjectsController")
 @RequestMapping("/api/v1/projects")
@@ -29,10 +35,12 @@ public class ProjectsController {
 
     private final ProjectCommandService projectCommandService;
     private final ProjectQueryService projectQueryService;
+    private final NdjsonResponseWriter ndjsonResponseWriter;
 
-    public ProjectsController(ProjectCommandService projectCommandService, ProjectQueryService projectQueryService) {
+    public ProjectsController(ProjectCommandService projectCommandService, ProjectQueryService projectQueryService, NdjsonResponseWriter ndjsonResponseWriter) {
         this.projectCommandService = projectCommandService;
         this.projectQueryService = projectQueryService;
+        this.ndjsonResponseWriter = ndjsonResponseWriter;
     }
 
     @PostMapping
@@ -41,6 +49,17 @@ public class ProjectsController {
         return project.map(p-> new ResponseEntity<>(ProjectResourceFromEntityAssembler.toResourceFromEntity(p), CREATED)).orElseGet(() -> ResponseEntity.badRequest().build());
     }
 
+    // Create many projects in one transaction; returns one result per project, in request order
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultResource<ProjectResource>>> createProjects(@RequestBody List<CreateProjectResource> resources){
+        if(resources.isEmpty() || resources.size() > CreateProjectsCommand.MAX_PROJECTS) return ResponseEntity.badRequest().build();
+        var results = BulkItemResultResourceAssembler.toResourcesFromResults(resources,
+                CreateProjectCommandFromResourceAssembler::toCommandFromResource,
+                commands -> projectCommandService.handle(new CreateProjectsCommand(commands)),
+                ProjectResourceFromEntityAssembler::toResourceFromEntity);
+        return new ResponseEntity<>(results, BulkItemResultResourceAssembler.allCreated(results) ? CREATED : MULTI_STATUS);
+    }
+
     @GetMapping
     public ResponseEntity<List<ProjectResource>> getAllProjects(){
         var projects = projectQueryService.handle(new GetAllProjects());
@@ -49,6 +68,11 @@ public class ProjectsController {
         return ResponseEntity.ok(projectResources);
     }
 
+    @GetMapping(produces = NdjsonResponseWriter.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllProjects() {
+        return ndjsonResponseWriter.write(() -> projectQueryService.stream(new GetAllProjects()), ProjectResourceFromEntityAssembler::toResourceFromEntity);
+    }
+
     @GetMapping("{id}")
     public ResponseEntity<ProjectResource> getProjectById(@PathVariable Long id){
         Optional<Project> project = projectQueryService.handle(new GetProjectByIdQuery(id));
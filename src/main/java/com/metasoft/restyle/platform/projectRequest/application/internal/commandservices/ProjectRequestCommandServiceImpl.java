@@ -2,15 +2,24 @@ package com.metasoft.restyle.platform.projectRequest.application.internal.comman
 
 import com.metasoft.restyle.platform.projectRequest.domain.model.aggregates.ProjectRequest;
 import com.metasoft.restyle.platform.projectRequest.domain.model.commands.CreateProjectRequestCommand;
+import com.metasoft.restyle.platform.projectRequest.domain.model.commands.CreateProjectRequestsCommand;
 import com.metasoft.restyle.platform.projectRequest.domain.services.ProjectRequestCommandService;
 import com.metasoft.restyle.platform.projectRequest.infrastructure.persistance.jpa.ProjectRequestRepository;
+import com.metasoft.restyle.platform.shared.domain.model.valueobjects.BulkItemResult;
+import com.metasoft.restyle.platform.shared.infrastructure.persistence.jpa.constraints.ColumnCollation;
+import com.metasoft.restyle.platform.shared.infrastructure.persistence.jpa.constraints.UniqueConstraintViolations;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 @Service
 public class ProjectRequestCommandServiceImpl implements ProjectRequestCommandService {
 
+    private static final String DUPLICATE_NAME_MESSAGE = "Project Request with same name already exists";
+
     private final ProjectRequestRepository projectRequestRepository;
 
     public ProjectRequestCommandServiceImpl(ProjectRequestRepository projectRequestRepository) {
@@ -19,11 +28,38 @@ public class ProjectRequestCommandServiceImpl implements ProjectRequestCommandSe
 
     @Override
     public Optional<ProjectRequest> handle(CreateProjectRequestCommand command){
-        if(projectRequestRepository.existsByName(command.name())){
-            throw new IllegalArgumentException("Project Request with same name already exists");
-        }
         var projectRequest = new ProjectRequest(command);
-        var createdProjectRequest = projectRequestRepository.save(projectRequest);
+        var createdProjectRequest = UniqueConstraintViolations.insertOrThrow(() -> projectRequestRepository.saveAndFlush(projectRequest),
+                ProjectRequest.NAME_UNIQUE_CONSTRAINT, () -> new IllegalArgumentException(DUPLICATE_NAME_MESSAGE));
         return Optional.of(createdProjectRequest);
     }
+
+    /**
+     * Creates the project requests whose names are not taken, with one query for the existing names and one batched
+     * insert. Names are compared ignoring case and accents, as the column collation does; names repeated within the
+     * command are created once and rejected afterwards. A name taken concurrently after the lookup still fails the
+     * whole command through the unique constraint.
+     * @param command the command with the project requests to create
+     * @return the result of each project request, in command order
+     */
+    @Override
+    @Transactional
+    public List<BulkItemResult<ProjectRequest>> handle(CreateProjectRequestsCommand command) {
+        var names = command.projectRequests().stream().map(CreateProjectRequestCommand::name).toList();
+        var takenNames = ColumnCollation.newSet(projectRequestRepository.findNamesByNameIn(names));
+        var results = new ArrayList<BulkItemResult<ProjectRequest>>(names.size());
+        var projectRequests = new ArrayList<ProjectRequest>(names.size());
+        for (var projectRequestCommand : command.projectRequests()) {
+            if (!takenNames.add(projectRequestCommand.name())) {
+                results.add(BulkItemResult.rejected(DUPLICATE_NAME_MESSAGE));
+                continue;
+            }
+            var projectRequest = new ProjectRequest(projectRequestCommand);
+            projectRequests.add(projectRequest);
+            results.add(BulkItemResult.created(projectRequest));
+        }
+        UniqueConstraintViolations.insertOrThrow(() -> projectRequestRepository.saveAllAndFlush(projectRequests),
+                ProjectRequest.NAME_UNIQUE_CONSTRAINT, () -> new IllegalArgumentException(DUPLICATE_NAME_MESSAGE));
+        return results;
+    }
 }
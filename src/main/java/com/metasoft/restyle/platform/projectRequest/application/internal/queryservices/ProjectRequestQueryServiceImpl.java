@@ -7,11 +7,13 @@ import com.metasoft.restyle.platform.projectRequest.domain.model.queries.GetProj
 import com.metasoft.restyle.platform.projectRequest.domain.services.ProjectRequestQueryService;
 import com.metasoft.restyle.platform.projectRequest.infrastructure.persistance.jpa.ProjectRequestRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Transactional(readOnly = true)
 public class ProjectRequestQueryServiceImpl implements ProjectRequestQueryService {
 
     private final ProjectRequestRepository projectRequestRepository;
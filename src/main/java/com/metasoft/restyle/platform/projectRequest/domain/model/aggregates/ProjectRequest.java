@@ -1,9 +1,11 @@
 package com.metasoft.restyle.platform.projectRequest.domain.model.aggregates;
 
 import com.metasoft.restyle.platform.projectRequest.domain.model.commands.CreateProjectRequestCommand;
+import com.metasoft.restyle.platform.shared.infrastructure.persistence.jpa.ids.PooledSequenceIdGenerator;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.data.domain.AbstractAggregateRoot;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -12,11 +14,15 @@ import java.util.Date;
 @Getter
 @Setter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = ProjectRequest.NAME_UNIQUE_CONSTRAINT, columnNames = "name"))
 @EntityListeners(AuditingEntityListener.class)
 public class ProjectRequest extends AbstractAggregateRoot<ProjectRequest> {
 
+    public static final String NAME_UNIQUE_CONSTRAINT = "uk_project_requests_name";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = PooledSequenceIdGenerator.NAME)
+    @GenericGenerator(name = PooledSequenceIdGenerator.NAME, type = PooledSequenceIdGenerator.class)
     private Long id;
 
     @Column(nullable = false)
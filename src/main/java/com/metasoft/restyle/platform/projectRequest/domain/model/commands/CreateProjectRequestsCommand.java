@@ -0,0 +1,17 @@
+package com.metasoft.restyle.platform.projectRequest.domain.model.commands;
+
+import java.util.List;
+
+public record CreateProjectRequestsCommand(List<CreateProjectRequestCommand> projectRequests) {
+
+    public static final int MAX_PROJECT_REQUESTS = 500;
+
+    public CreateProjectRequestsCommand {
+        if (projectRequests == null || projectRequests.isEmpty()) {
+            throw new IllegalArgumentException("projectRequests cannot be null or empty");
+        }
+        if (projectRequests.size() > MAX_PROJECT_REQUESTS) {
+            throw new IllegalArgumentException("projectRequests cannot contain more than " + MAX_PROJECT_REQUESTS + " items");
+        }
+    }
+}
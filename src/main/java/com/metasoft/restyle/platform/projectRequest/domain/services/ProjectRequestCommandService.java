@@ -2,9 +2,14 @@ package com.metasoft.restyle.platform.projectRequest.domain.services;
 
 import com.metasoft.restyle.platform.projectRequest.domain.model.aggregates.ProjectRequest;
 import com.metasoft.restyle.platform.projectRequest.domain.model.commands.CreateProjectRequestCommand;
+import com.metasoft.restyle.platform.projectRequest.domain.model.commands.CreateProjectRequestsCommand;
+import com.metasoft.restyle.platform.shared.domain.model.valueobjects.BulkItemResult;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ProjectRequestCommandService {
     Optional<ProjectRequest> handle(CreateProjectRequestCommand command);
+
+    List<BulkItemResult<ProjectRequest>> handle(CreateProjectRequestsCommand command);
 }
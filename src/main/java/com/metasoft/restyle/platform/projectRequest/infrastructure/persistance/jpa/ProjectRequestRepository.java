@@ -2,10 +2,12 @@ package com.metasoft.restyle.platform.projectRequest.infrastructure.persistance.
 
 import com.metasoft.restyle.platform.projectRequest.domain.model.aggregates.ProjectRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.NonNullApi;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,5 +21,8 @@ public interface ProjectRequestRepository extends JpaRepository<ProjectRequest,
 
     boolean existsByName(@NonNull String name);
 
+    @Query("select e.name from ProjectRequest e where e.name in :names")
+    List<String> findNamesByNameIn(@NonNull Collection<String> names);
+
     Optional<ProjectRequest> findById(@NonNull Long id);
 }
@@ -2,6 +2,7 @@ package com.metasoft.restyle.platform.projectRequest.interfaces.rest;
 
 
 import com.metasoft.restyle.platform.projectRequest.domain.model.aggregates.ProjectRequest;
+import com.metasoft.restyle.platform.projectRequest.domain.model.commands.CreateProjectRequestsCommand;
 import com.metasoft.restyle.platform.projectRequest.domain.model.queries.GetAllProjectRequestsByBusinessIdQuery;
 import com.metasoft.restyle.platform.projectRequest.domain.model.queries.GetAllProjectRequestsByContractorIdQuery;
 import com.metasoft.restyle.platform.projectRequest.domain.model.queries.GetProjectRequestByIdQuery;
@@ -11,6 +12,8 @@ import com.metasoft.restyle.platform.projectRequest.interfaces.rest.resources.Cr
 import com.metasoft.restyle.platform.projectRequest.interfaces.rest.resources.ProjectRequestResource;
 import com.metasoft.restyle.platform.projectRequest.interfaces.rest.transform.CreateProjectRequestCommandFromResourceAssembler;
 import com.metasoft.restyle.platform.projectRequest.interfaces.rest.transform.ProjectRequestResourceFromEntityAssembler;
+import com.metasoft.restyle.platform.shared.interfaces.rest.resources.BulkItemResultResource;
+import com.metasoft.restyle.platform.shared.interfaces.rest.transform.BulkItemResultResourceAssembler;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -20,6 +23,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.MULTI_STATUS;
 
 @RestController
 @RequestMapping("/api/v1/project-requests")
@@ -40,6 +44,17 @@ public class ProjectRequestsController {
         return projectRequest.map(p-> new ResponseEntity<>(ProjectRequestResourceFromEntityAssembler.toResourceFromEntity(p), CREATED)).orElseGet(() -> ResponseEntity.badRequest().build());
     }
 
+    // Create many project requests in one transaction; returns one result per project request, in request order
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultResource<ProjectRequestResource>>> createProjectRequests(@RequestBody List<CreateProjectRequestResource> resources){
+        if(resources.isEmpty() || resources.size() > CreateProjectRequestsCommand.MAX_PROJECT_REQUESTS) return ResponseEntity.badRequest().build();
+        var results = BulkItemResultResourceAssembler.toResourcesFromResults(resources,
+                CreateProjectRequestCommandFromResourceAssembler::toCommandFromResource,
+                commands -> projectRequestCommandService.handle(new CreateProjectRequestsCommand(commands)),
+                ProjectRequestResourceFromEntityAssembler::toResourceFromEntity);
+        return new ResponseEntity<>(results, BulkItemResultResourceAssembler.allCreated(results) ? CREATED : MULTI_STATUS);
+    }
+
     @GetMapping("{id}")
     public ResponseEntity<ProjectRequestResource> getProjectRequestById(@PathVariable Long id) {
         Optional<ProjectRequest> projectRequest = projectRequestQueryService.handle(new GetProjectRequestByIdQuery(id));
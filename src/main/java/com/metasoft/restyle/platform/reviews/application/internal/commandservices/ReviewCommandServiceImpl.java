@@ -3,10 +3,14 @@ package com.metasoft.restyle.platform.reviews.application.internal.commandservic
 import com.metasoft.restyle.platform.reviews.domain.model.aggregates.Review;
 import com.metasoft.restyle.platform.reviews.domain.model.commands.CreateReviewCommand;
 import com.metasoft.restyle.platform.reviews.domain.model.commands.DeleteReviewCommand;
+import com.metasoft.restyle.platform.reviews.domain.model.commands.RebuildContractorRatingSummariesCommand;
 import com.metasoft.restyle.platform.reviews.domain.model.commands.UpdateReviewCommand;
+import com.metasoft.restyle.platform.reviews.domain.model.entities.ContractorRatingSummary;
 import com.metasoft.restyle.platform.reviews.domain.services.ReviewCommandService;
+import com.metasoft.restyle.platform.reviews.infrastructure.persistence.jpa.repositories.ContractorRatingSummaryRepository;
 import com.metasoft.restyle.platform.reviews.infrastructure.persistence.jpa.repositories.ReviewRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -14,16 +18,20 @@ import java.util.Optional;
 public class ReviewCommandServiceImpl implements ReviewCommandService {
 
     private final ReviewRepository reviewRepository;
+    private final ContractorRatingSummaryRepository contractorRatingSummaryRepository;
 
-    public ReviewCommandServiceImpl(ReviewRepository reviewRepository) {
+    public ReviewCommandServiceImpl(ReviewRepository reviewRepository, ContractorRatingSummaryRepository contractorRatingSummaryRepository) {
         this.reviewRepository = reviewRepository;
+        this.contractorRatingSummaryRepository = contractorRatingSummaryRepository;
     }
 
     @Override
-    public Long handle(CreateReviewCommand command) {
+    @Transactional
+    public Optional<Review> handle(CreateReviewCommand command) {
         var review = new Review(command.contractorId(), command.projectId(), command.duration(), command.rating(), command.comment(), command.image());
-        reviewRepository.save(review);
-        return review.getId();
+        var savedReview = reviewRepository.save(review);
+        contractorRatingSummaryRepository.addRatings(ratingsOf(savedReview));
+        return Optional.of(savedReview);
     }
 
     @Override
@@ -34,15 +42,31 @@ public class ReviewCommandServiceImpl implements ReviewCommandService {
         review.updateComment(command.comment());
         review.updateImage(command.image());
 
-        reviewRepository.save(review);
-        return reviewRepository.findById(command.reviewId());
+        return Optional.of(reviewRepository.save(review));
     }
 
     @Override
+    @Transactional
     public Optional<Review> handle(DeleteReviewCommand command) {
         var review = reviewRepository.findById(command.reviewId())
                 .orElseThrow(()-> new IllegalArgumentException("Review not found"));
         reviewRepository.delete(review);
+        contractorRatingSummaryRepository.removeRatings(ratingsOf(review));
         return Optional.of(review);
     }
+
+    @Override
+    @Transactional
+    public int handle(RebuildContractorRatingSummariesCommand command) {
+        contractorRatingSummaryRepository.rebuildFromReviews();
+        contractorRatingSummaryRepository.deleteWithoutReviews();
+        return (int) contractorRatingSummaryRepository.count();
+    }
+
+    // The counts a single review adds to the summary of its contractor
+    private static ContractorRatingSummary ratingsOf(Review review) {
+        var ratings = new ContractorRatingSummary(review.getContractorId());
+        ratings.addRating(review.getRating());
+        return ratings;
+    }
 }
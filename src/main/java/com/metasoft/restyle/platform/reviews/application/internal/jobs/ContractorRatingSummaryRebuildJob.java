@@ -0,0 +1,55 @@
+package com.metasoft.restyle.platform.reviews.application.internal.jobs;
+
+import com.metasoft.restyle.platform.reviews.domain.model.commands.RebuildContractorRatingSummariesCommand;
+import com.metasoft.restyle.platform.reviews.domain.services.ReviewCommandService;
+import com.metasoft.restyle.platform.shared.infrastructure.scheduling.ScheduledJobLockService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Contractor Rating Summary Rebuild Job.
+ * <p>
+ * The rating summaries are updated review by review; this job recomputes all of them from the reviews on a schedule,
+ * so any drift, such as reviews written outside the review command service, is corrected. The schedule is set by the
+ * {@code reviews.rating-summary.rebuild.cron} property, and {@code -} disables it. Only the instance that takes the
+ * job's lease runs the rebuild; the others skip it.
+ * </p>
+ */
+@Component
+public class ContractorRatingSummaryRebuildJob {
+    private final Logger LOGGER = LoggerFactory.getLogger(ContractorRatingSummaryRebuildJob.class);
+
+    private static final String LOCK_NAME = "contractor-rating-summary-rebuild";
+
+    private final ReviewCommandService reviewCommandService;
+
+    private final ScheduledJobLockService scheduledJobLockService;
+
+    private final Duration lockAtLeastFor;
+
+    private final Duration lockAtMostFor;
+
+    public ContractorRatingSummaryRebuildJob(ReviewCommandService reviewCommandService,
+                                             ScheduledJobLockService scheduledJobLockService,
+                                             @Value("${reviews.rating-summary.rebuild.lock-at-least-for:PT1M}") Duration lockAtLeastFor,
+                                             @Value("${reviews.rating-summary.rebuild.lock-at-most-for:PT30M}") Duration lockAtMostFor) {
+        this.reviewCommandService = reviewCommandService;
+        this.scheduledJobLockService = scheduledJobLockService;
+        this.lockAtLeastFor = lockAtLeastFor;
+        this.lockAtMostFor = lockAtMostFor;
+    }
+
+    @Scheduled(cron = "${reviews.rating-summary.rebuild.cron:0 0 3 * * *}")
+    public void rebuild() {
+        var ran = scheduledJobLockService.runExclusively(LOCK_NAME, lockAtLeastFor, lockAtMostFor, () -> {
+            var contractors = reviewCommandService.handle(new RebuildContractorRatingSummariesCommand());
+            LOGGER.info("Rebuilt the rating summaries of {} contractors", contractors);
+        });
+        if (!ran) LOGGER.info("Skipped rebuilding the rating summaries; another instance holds the lease");
+    }
+}
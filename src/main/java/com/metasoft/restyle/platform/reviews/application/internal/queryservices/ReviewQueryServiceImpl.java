@@ -1,23 +1,38 @@
 package com.metasoft.restyle.platform.reviews.application.internal.queryservices;
 
 import com.metasoft.restyle.platform.reviews.domain.model.aggregates.Review;
+import com.metasoft.restyle.platform.reviews.domain.model.entities.ContractorRatingSummary;
 import com.metasoft.restyle.platform.reviews.domain.model.queries.GetAllReviewsQuery;
+import com.metasoft.restyle.platform.reviews.domain.model.queries.GetContractorRatingSummaryQuery;
 import com.metasoft.restyle.platform.reviews.domain.model.queries.GetReviewByContractorIdAndProjectId;
 import com.metasoft.restyle.platform.reviews.domain.model.queries.GetReviewByIdQuery;
+import com.metasoft.restyle.platform.reviews.domain.model.queries.GetReviewsByContractorIdAndProjectIdQuery;
+import com.metasoft.restyle.platform.reviews.domain.model.queries.GetReviewsByContractorIdQuery;
+import com.metasoft.restyle.platform.reviews.domain.model.queries.GetReviewsByProjectIdQuery;
+import com.metasoft.restyle.platform.reviews.domain.model.queries.GetReviewsPageQuery;
+import com.metasoft.restyle.platform.reviews.domain.model.valueobjects.ContractorId;
+import com.metasoft.restyle.platform.reviews.domain.model.valueobjects.ProjectId;
 import com.metasoft.restyle.platform.reviews.domain.services.ReviewQueryService;
+import com.metasoft.restyle.platform.reviews.infrastructure.persistence.jpa.repositories.ContractorRatingSummaryRepository;
 import com.metasoft.restyle.platform.reviews.infrastructure.persistence.jpa.repositories.ReviewRepository;
+import com.metasoft.restyle.platform.shared.domain.model.valueobjects.KeysetPage;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Transactional(readOnly = true)
 public class ReviewQueryServiceImpl implements ReviewQueryService {
 
     private final ReviewRepository reviewRepository;
+    private final ContractorRatingSummaryRepository contractorRatingSummaryRepository;
 
-    public ReviewQueryServiceImpl(ReviewRepository reviewRepository) {
+    public ReviewQueryServiceImpl(ReviewRepository reviewRepository, ContractorRatingSummaryRepository contractorRatingSummaryRepository) {
         this.reviewRepository = reviewRepository;
+        this.contractorRatingSummaryRepository = contractorRatingSummaryRepository;
     }
 
     @Override
@@ -34,4 +49,40 @@ public class ReviewQueryServiceImpl implements ReviewQueryService {
     public List<Review> handle(GetAllReviewsQuery query) {
         return reviewRepository.findAll();
     }
+
+    @Override
+    public KeysetPage<Review> handle(GetReviewsPageQuery query) {
+        var afterId = query.afterId() != null ? query.afterId() : 0L;
+        var reviews = reviewRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(query.size() + 1));
+        return KeysetPage.of(reviews, query.size(), Review::getId);
+    }
+
+    @Override
+    public KeysetPage<Review> handle(GetReviewsByContractorIdQuery query) {
+        var afterId = query.afterId() != null ? query.afterId() : 0L;
+        var reviews = reviewRepository.findByContractorIdAndIdGreaterThanOrderByIdAsc(new ContractorId(query.contractorId()),
+                afterId, Limit.of(query.size() + 1));
+        return KeysetPage.of(reviews, query.size(), Review::getId);
+    }
+
+    @Override
+    public KeysetPage<Review> handle(GetReviewsByProjectIdQuery query) {
+        var afterId = query.afterId() != null ? query.afterId() : 0L;
+        var reviews = reviewRepository.findByProjectIdAndIdGreaterThanOrderByIdAsc(new ProjectId(query.projectId()),
+                afterId, Limit.of(query.size() + 1));
+        return KeysetPage.of(reviews, query.size(), Review::getId);
+    }
+
+    @Override
+    public KeysetPage<Review> handle(GetReviewsByContractorIdAndProjectIdQuery query) {
+        var afterId = query.afterId() != null ? query.afterId() : 0L;
+        var reviews = reviewRepository.findByContractorIdAndProjectIdAndIdGreaterThanOrderByIdAsc(new ContractorId(query.contractorId()),
+                new ProjectId(query.projectId()), afterId, Limit.of(query.size() + 1));
+        return KeysetPage.of(reviews, query.size(), Review::getId);
+    }
+
+    @Override
+    public Optional<ContractorRatingSummary> handle(GetContractorRatingSummaryQuery query) {
+        return contractorRatingSummaryRepository.findById(query.contractorId());
+    }
 }
@@ -3,9 +3,11 @@ package com.metasoft.restyle.platform.reviews.domain.model.aggregates;
 import com.metasoft.restyle.platform.reviews.domain.model.valueobjects.ContractorId;
 import com.metasoft.restyle.platform.reviews.domain.model.valueobjects.ProjectId;
 import com.metasoft.restyle.platform.reviews.domain.model.valueobjects.Rating;
+import com.metasoft.restyle.platform.shared.infrastructure.persistence.jpa.ids.PooledSequenceIdGenerator;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.data.domain.AbstractAggregateRoot;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -16,7 +18,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 public class Review extends AbstractAggregateRoot<Review> {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = PooledSequenceIdGenerator.NAME)
+    @GenericGenerator(name = PooledSequenceIdGenerator.NAME, type = PooledSequenceIdGenerator.class)
     private Long id;
 
     @Embedded
@@ -0,0 +1,4 @@
+package com.metasoft.restyle.platform.reviews.domain.model.commands;
+
+public record RebuildContractorRatingSummariesCommand() {
+}
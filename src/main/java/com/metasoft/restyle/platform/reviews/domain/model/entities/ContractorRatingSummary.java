@@ -0,0 +1,115 @@
+package com.metasoft.restyle.platform.reviews.domain.model.entities;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Contractor rating summary
+ * <p>
+ *     This entity keeps the number of reviews of a contractor, the sum of their ratings and how many reviews gave each
+ *     rating from 1 to 5. It is kept up to date as reviews are created and deleted, so the mean rating of a contractor
+ *     is read without going through the reviews.
+ * </p>
+ */
+@Getter
+@Entity
+public class ContractorRatingSummary {
+
+    @Id
+    private Integer contractorId;
+
+    private long reviewCount;
+
+    private long ratingSum;
+
+    private long oneStarCount;
+
+    private long twoStarCount;
+
+    private long threeStarCount;
+
+    private long fourStarCount;
+
+    private long fiveStarCount;
+
+    @Version
+    private Long version;
+
+    public ContractorRatingSummary(Integer contractorId) {
+        this.contractorId = contractorId;
+    }
+
+    /**
+     * Creates the summary of a contractor from the number of reviews given for each rating.
+     */
+    public ContractorRatingSummary(Integer contractorId, Long oneStarCount, Long twoStarCount, Long threeStarCount,
+                                   Long fourStarCount, Long fiveStarCount) {
+        this(contractorId);
+        this.oneStarCount = oneStarCount;
+        this.twoStarCount = twoStarCount;
+        this.threeStarCount = threeStarCount;
+        this.fourStarCount = fourStarCount;
+        this.fiveStarCount = fiveStarCount;
+        this.reviewCount = oneStarCount + twoStarCount + threeStarCount + fourStarCount + fiveStarCount;
+        this.ratingSum = oneStarCount + 2 * twoStarCount + 3 * threeStarCount + 4 * fourStarCount + 5 * fiveStarCount;
+    }
+
+    public ContractorRatingSummary() {
+    }
+
+    /**
+     * Counts a review with the given rating.
+     * @param rating The rating, from 1 to 5.
+     */
+    public void addRating(int rating) {
+        adjust(rating, 1);
+    }
+
+    /**
+     * Stops counting a review with the given rating.
+     * @param rating The rating, from 1 to 5.
+     */
+    public void removeRating(int rating) {
+        adjust(rating, -1);
+    }
+
+    /**
+     * Returns the mean rating.
+     * @return The mean rating, or null when the contractor has no reviews.
+     */
+    public Double getMean() {
+        return reviewCount == 0 ? null : (double) ratingSum / reviewCount;
+    }
+
+    /**
+     * Returns the number of reviews given for each rating.
+     * @return The review counts keyed by rating, from 1 to 5.
+     */
+    public Map<Integer, Long> getHistogram() {
+        var histogram = new TreeMap<Integer, Long>();
+        histogram.put(1, oneStarCount);
+        histogram.put(2, twoStarCount);
+        histogram.put(3, threeStarCount);
+        histogram.put(4, fourStarCount);
+        histogram.put(5, fiveStarCount);
+        return histogram;
+    }
+
+    private void adjust(int rating, int delta) {
+        switch (rating) {
+            case 1 -> oneStarCount += delta;
+            case 2 -> twoStarCount += delta;
+            case 3 -> threeStarCount += delta;
+            case 4 -> fourStarCount += delta;
+            case 5 -> fiveStarCount += delta;
+            default -> throw new IllegalArgumentException("Rating must be between 1 and 5");
+        }
+        reviewCount += delta;
+        ratingSum += (long) rating * delta;
+    }
+}
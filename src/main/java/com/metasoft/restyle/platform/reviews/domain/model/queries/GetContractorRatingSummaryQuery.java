@@ -0,0 +1,4 @@
+package com.metasoft.restyle.platform.reviews.domain.model.queries;
+
+public record GetContractorRatingSummaryQuery(Integer contractorId) {
+}
@@ -0,0 +1,11 @@
+package com.metasoft.restyle.platform.reviews.domain.model.queries;
+
+/**
+ * Query for a page of the reviews of a contractor for a project, ordered by id.
+ * @param contractorId the id of the contractor
+ * @param projectId the id of the project
+ * @param afterId the id to continue after, or null for the first page
+ * @param size the page size
+ */
+public record GetReviewsByContractorIdAndProjectIdQuery(Integer contractorId, Integer projectId, Long afterId, int size) {
+}
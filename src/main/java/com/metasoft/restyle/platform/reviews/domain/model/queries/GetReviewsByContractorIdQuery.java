@@ -0,0 +1,10 @@
+package com.metasoft.restyle.platform.reviews.domain.model.queries;
+
+/**
+ * Query for a page of the reviews of a contractor, ordered by id.
+ * @param contractorId the id of the contractor
+ * @param afterId the id to continue after, or null for the first page
+ * @param size the page size
+ */
+public record GetReviewsByContractorIdQuery(Integer contractorId, Long afterId, int size) {
+}
@@ -0,0 +1,10 @@
+package com.metasoft.restyle.platform.reviews.domain.model.queries;
+
+/**
+ * Query for a page of the reviews of a project, ordered by id.
+ * @param projectId the id of the project
+ * @param afterId the id to continue after, or null for the first page
+ * @param size the page size
+ */
+public record GetReviewsByProjectIdQuery(Integer projectId, Long afterId, int size) {
+}
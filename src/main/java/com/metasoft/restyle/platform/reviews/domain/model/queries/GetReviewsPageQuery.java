@@ -0,0 +1,9 @@
+package com.metasoft.restyle.platform.reviews.domain.model.queries;
+
+/**
+ * Query for a page of reviews ordered by id.
+ * @param afterId the id to continue after, or null for the first page
+ * @param size the page size
+ */
+public record GetReviewsPageQuery(Long afterId, int size) {
+}
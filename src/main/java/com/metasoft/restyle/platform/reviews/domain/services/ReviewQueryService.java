@@ -1,9 +1,16 @@
 package com.metasoft.restyle.platform.reviews.domain.services;
 
 import com.metasoft.restyle.platform.reviews.domain.model.aggregates.Review;
+import com.metasoft.restyle.platform.reviews.domain.model.entities.ContractorRatingSummary;
 import com.metasoft.restyle.platform.reviews.domain.model.queries.GetAllReviewsQuery;
+import com.metasoft.restyle.platform.reviews.domain.model.queries.GetContractorRatingSummaryQuery;
 import com.metasoft.restyle.platform.reviews.domain.model.queries.GetReviewByContractorIdAndProjectId;
 import com.metasoft.restyle.platform.reviews.domain.model.queries.GetReviewByIdQuery;
+import com.metasoft.restyle.platform.reviews.domain.model.queries.GetReviewsByContractorIdAndProjectIdQuery;
+import com.metasoft.restyle.platform.reviews.domain.model.queries.GetReviewsByContractorIdQuery;
+import com.metasoft.restyle.platform.reviews.domain.model.queries.GetReviewsByProjectIdQuery;
+import com.metasoft.restyle.platform.reviews.domain.model.queries.GetReviewsPageQuery;
+import com.metasoft.restyle.platform.shared.domain.model.valueobjects.KeysetPage;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,4 +19,9 @@ public interface ReviewQueryService {
     Optional<Review> handle(GetReviewByIdQuery query);
     Optional<Review> handle(GetReviewByContractorIdAndProjectId query);
     List<Review> handle(GetAllReviewsQuery query);
+    KeysetPage<Review> handle(GetReviewsPageQuery query);
+    KeysetPage<Review> handle(GetReviewsByContractorIdQuery query);
+    KeysetPage<Review> handle(GetReviewsByProjectIdQuery query);
+    KeysetPage<Review> handle(GetReviewsByContractorIdAndProjectIdQuery query);
+    Optional<ContractorRatingSummary> handle(GetContractorRatingSummaryQuery query);
 }
@@ -0,0 +1,87 @@
+package com.metasoft.restyle.platform.reviews.infrastructure.persistence.jpa.repositories;
+
+import com.metasoft.restyle.platform.reviews.domain.model.entities.ContractorRatingSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ContractorRatingSummaryRepository extends JpaRepository<ContractorRatingSummary, Integer> {
+
+    // Adds the counts to the stored summary, or stores them on the first review of the contractor, in one statement,
+    // so concurrent reviews of the same contractor neither overwrite each other nor both insert the summary
+    @Modifying
+    @Query(value = """
+            insert into contractor_rating_summaries (contractor_id, review_count, rating_sum, one_star_count,
+                                                     two_star_count, three_star_count, four_star_count,
+                                                     five_star_count, version)
+            values (:#{#ratings.contractorId}, :#{#ratings.reviewCount}, :#{#ratings.ratingSum},
+                    :#{#ratings.oneStarCount}, :#{#ratings.twoStarCount}, :#{#ratings.threeStarCount},
+                    :#{#ratings.fourStarCount}, :#{#ratings.fiveStarCount}, 0)
+            on duplicate key update review_count = review_count + values(review_count),
+                                    rating_sum = rating_sum + values(rating_sum),
+                                    one_star_count = one_star_count + values(one_star_count),
+                                    two_star_count = two_star_count + values(two_star_count),
+                                    three_star_count = three_star_count + values(three_star_count),
+                                    four_star_count = four_star_count + values(four_star_count),
+                                    five_star_count = five_star_count + values(five_star_count),
+                                    version = version + 1
+            """, nativeQuery = true)
+    void addRatings(ContractorRatingSummary ratings);
+
+    // Subtracts the counts from the stored summary in one statement; a contractor without a summary is left alone
+    @Modifying
+    @Query(value = """
+            update contractor_rating_summaries
+            set review_count = review_count - :#{#ratings.reviewCount},
+                rating_sum = rating_sum - :#{#ratings.ratingSum},
+                one_star_count = one_star_count - :#{#ratings.oneStarCount},
+                two_star_count = two_star_count - :#{#ratings.twoStarCount},
+                three_star_count = three_star_count - :#{#ratings.threeStarCount},
+                four_star_count = four_star_count - :#{#ratings.fourStarCount},
+                five_star_count = five_star_count - :#{#ratings.fiveStarCount},
+                version = version + 1
+            where contractor_id = :#{#ratings.contractorId}
+            """, nativeQuery = true)
+    void removeRatings(ContractorRatingSummary ratings);
+
+    // Recomputes every summary from the reviews in one statement, which locks the reviews it reads until the rebuild
+    // commits, so a review created meanwhile is counted after the rebuild instead of being lost
+    @Modifying
+    @Query(value = """
+            insert into contractor_rating_summaries (contractor_id, review_count, rating_sum, one_star_count,
+                                                     two_star_count, three_star_count, four_star_count,
+                                                     five_star_count, version)
+            select contractor_id,
+                   count(*),
+                   sum(rating),
+                   sum(case when rating = 1 then 1 else 0 end),
+                   sum(case when rating = 2 then 1 else 0 end),
+                   sum(case when rating = 3 then 1 else 0 end),
+                   sum(case when rating = 4 then 1 else 0 end),
+                   sum(case when rating = 5 then 1 else 0 end),
+                   0
+            from reviews
+            where contractor_id is not null and rating between 1 and 5
+            group by contractor_id
+            on duplicate key update review_count = values(review_count),
+                                    rating_sum = values(rating_sum),
+                                    one_star_count = values(one_star_count),
+                                    two_star_count = values(two_star_count),
+                                    three_star_count = values(three_star_count),
+                                    four_star_count = values(four_star_count),
+                                    five_star_count = values(five_star_count),
+                                    version = version + 1
+            """, nativeQuery = true)
+    void rebuildFromReviews();
+
+    @Modifying
+    @Query(value = """
+            delete from contractor_rating_summaries
+            where contractor_id not in (select contractor_id
+                                        from reviews
+                                        where contractor_id is not null and rating between 1 and 5)
+            """, nativeQuery = true)
+    void deleteWithoutReviews();
+}
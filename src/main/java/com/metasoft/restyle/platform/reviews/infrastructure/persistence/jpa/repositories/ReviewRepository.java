@@ -4,13 +4,19 @@ import com.metasoft.restyle.platform.reviews.domain.model.aggregates.Review;
 import com.metasoft.restyle.platform.reviews.domain.model.valueobjects.ContractorId;
 import com.metasoft.restyle.platform.reviews.domain.model.valueobjects.ProjectId;
 import com.metasoft.restyle.platform.reviews.domain.model.valueobjects.Rating;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
     Optional<Review> findByContractorIdAndProjectId(ContractorId contractorId, ProjectId projectId);
     Boolean existsByRating(Rating rating);
+    List<Review> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+    List<Review> findByContractorIdAndIdGreaterThanOrderByIdAsc(ContractorId contractorId, Long id, Limit limit);
+    List<Review> findByProjectIdAndIdGreaterThanOrderByIdAsc(ProjectId projectId, Long id, Limit limit);
+    List<Review> findByContractorIdAndProjectIdAndIdGreaterThanOrderByIdAsc(ContractorId contractorId, ProjectId projectId, Long id, Limit limit);
 }
@@ -1,29 +1,40 @@
 package com.metasoft.restyle.platform.reviews.interfaces.rest;
 
+import com.metasoft.restyle.platform.reviews.domain.model.aggregates.Review;
 import com.metasoft.restyle.platform.reviews.domain.model.commands.DeleteReviewCommand;
-import com.metasoft.restyle.platform.reviews.domain.model.queries.GetAllReviewsQuery;
-import com.metasoft.restyle.platform.reviews.domain.model.queries.GetReviewByIdQuery;
+import com.metasoft.restyle.platform.reviews.domain.model.entities.ContractorRatingSummary;
+import com.metasoft.restyle.platform.reviews.domain.model.queries.GetContractorRatingSummaryQuery;
+import com.metasoft.restyle.platform.reviews.domain.model.queries.GetReviewsByContractorIdAndProjectIdQuery;
+import com.metasoft.restyle.platform.reviews.domain.model.queries.GetReviewsByContractorIdQuery;
+import com.metasoft.restyle.platform.reviews.domain.model.queries.GetReviewsByProjectIdQuery;
+import com.metasoft.restyle.platform.reviews.domain.model.queries.GetReviewsPageQuery;
 import com.metasoft.restyle.platform.reviews.domain.services.ReviewCommandService;
 import com.metasoft.restyle.platform.reviews.domain.services.ReviewQueryService;
+import com.metasoft.restyle.platform.reviews.interfaces.rest.resources.ContractorRatingSummaryResource;
 import com.metasoft.restyle.platform.reviews.interfaces.rest.resources.CreateReviewResource;
+import com.metasoft.restyle.platform.reviews.interfaces.rest.resources.ReviewPageResource;
 import com.metasoft.restyle.platform.reviews.interfaces.rest.resources.ReviewResource;
 import com.metasoft.restyle.platform.reviews.interfaces.rest.resources.UpdateReviewResource;
+import com.metasoft.restyle.platform.reviews.interfaces.rest.transform.ContractorRatingSummaryResourceFromEntityAssembler;
 import com.metasoft.restyle.platform.reviews.interfaces.rest.transform.CreateReviewCommandFromResourceAssembler;
 import com.metasoft.restyle.platform.reviews.interfaces.rest.transform.ReviewResourceFromEntityAssembler;
 import com.metasoft.restyle.platform.reviews.interfaces.rest.transform.UpdateReviewCommandFomResourceAssembles;
+import com.metasoft.restyle.platform.shared.domain.model.valueobjects.KeysetPage;
+import com.metasoft.restyle.platform.shared.interfaces.rest.transform.ContinuationTokenCodec;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping(value = "/api/v1/reviews", produces = MediaType.APPLICATION_JSON_VALUE)
 @Tag(name = "Reviews", description = "Review Management Endpoints")
 public class ReviewsController {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ReviewCommandService reviewCommandService;
     private final ReviewQueryService reviewQueryService;
 
@@ -36,12 +47,7 @@ public class ReviewsController {
     @PostMapping
     public ResponseEntity<ReviewResource> createReview(@RequestBody CreateReviewResource resource) {
         var createReviewCommand = CreateReviewCommandFromResourceAssembler.toCommandResource(resource);
-        var reviewId = reviewCommandService.handle(createReviewCommand);
-        if (reviewId == 0L){
-            return ResponseEntity.badRequest().build();
-        }
-        var getReviewByIdQuery = new GetReviewByIdQuery(reviewId);
-        var review = reviewQueryService.handle(getReviewByIdQuery);
+        var review = reviewCommandService.handle(createReviewCommand);
 
         if (review.isEmpty()){
             return ResponseEntity.badRequest().build();
@@ -51,13 +57,48 @@ public class ReviewsController {
         return new ResponseEntity<>(reviewResource,HttpStatus.CREATED);
     }
 
-    // Get all reviews
+    // Get all reviews, one page at a time ordered by id; pass the returned nextPageToken as pageToken for the next page.
+    // contractorId and projectId narrow the listing to the reviews of a contractor, of a project, or, together, of the
+    // contractor for the project
     @GetMapping
-    public ResponseEntity<List<ReviewResource>> getAllReviews() {
-        var getAllReviewsQuery = new GetAllReviewsQuery();
-        var reviews = reviewQueryService.handle(getAllReviewsQuery);
-        var reviewResources = reviews.stream().map(ReviewResourceFromEntityAssembler::toResourceFromEntity).toList();
-        return ResponseEntity.ok(reviewResources);
+    public ResponseEntity<ReviewPageResource> getAllReviews(@RequestParam(required = false) Integer contractorId,
+                                                            @RequestParam(required = false) Integer projectId,
+                                                            @RequestParam(required = false) String pageToken,
+                                                            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size) {
+        if ((contractorId != null && contractorId < 1) || (projectId != null && projectId < 1)) {
+            return ResponseEntity.badRequest().build();
+        }
+        Long afterId;
+        try {
+            afterId = ContinuationTokenCodec.decode(pageToken);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        var pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        KeysetPage<Review> page;
+        if (contractorId != null && projectId != null) {
+            page = reviewQueryService.handle(new GetReviewsByContractorIdAndProjectIdQuery(contractorId, projectId, afterId, pageSize));
+        } else if (contractorId != null) {
+            page = reviewQueryService.handle(new GetReviewsByContractorIdQuery(contractorId, afterId, pageSize));
+        } else if (projectId != null) {
+            page = reviewQueryService.handle(new GetReviewsByProjectIdQuery(projectId, afterId, pageSize));
+        } else {
+            page = reviewQueryService.handle(new GetReviewsPageQuery(afterId, pageSize));
+        }
+        var reviewResources = page.items().stream().map(ReviewResourceFromEntityAssembler::toResourceFromEntity).toList();
+        return ResponseEntity.ok(new ReviewPageResource(reviewResources, ContinuationTokenCodec.encode(page.nextKey())));
+    }
+
+    // Get the rating summary of a contractor: review count, rating sum, mean rating and reviews per rating
+    @GetMapping("/contractors/{contractorId}/rating-summary")
+    public ResponseEntity<ContractorRatingSummaryResource> getContractorRatingSummary(@PathVariable Integer contractorId) {
+        if (contractorId < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        var getContractorRatingSummaryQuery = new GetContractorRatingSummaryQuery(contractorId);
+        var summary = reviewQueryService.handle(getContractorRatingSummaryQuery)
+                .orElseGet(() -> new ContractorRatingSummary(contractorId));
+        return ResponseEntity.ok(ContractorRatingSummaryResourceFromEntityAssembler.toResourceFromEntity(summary));
     }
 
     // Delete review by id
@@ -76,10 +117,7 @@ public class ReviewsController {
     @PutMapping("/{reviewId}")
     public ResponseEntity<ReviewResource> updateReview(@PathVariable Long reviewId, @RequestBody UpdateReviewResource resource) {
         var updateReviewCommand = UpdateReviewCommandFomResourceAssembles.toCommandFromResource(reviewId, resource);
-        reviewCommandService.handle(updateReviewCommand);
-
-        var getReviewByIdQuery = new GetReviewByIdQuery(reviewId);
-        var review = reviewQueryService.handle(getReviewByIdQuery);
+        var review = reviewCommandService.handle(updateReviewCommand);
 
         if (review.isEmpty()){
             return ResponseEntity.notFound().build();
@@ -87,7 +125,4 @@ public class ReviewsController {
         var reviewResource = ReviewResourceFromEntityAssembler.toResourceFromEntity(review.get());
         return ResponseEntity.ok(reviewResource);
     }
-
-    // Get review by contractorId and projectId
-
 }
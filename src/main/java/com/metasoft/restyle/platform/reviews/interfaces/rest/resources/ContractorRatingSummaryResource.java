@@ -0,0 +1,6 @@
+package com.metasoft.restyle.platform.reviews.interfaces.rest.resources;
+
+import java.util.Map;
+
+public record ContractorRatingSummaryResource(Integer contractorId, long reviewCount, long ratingSum, Double mean, Map<Integer, Long> histogram) {
+}
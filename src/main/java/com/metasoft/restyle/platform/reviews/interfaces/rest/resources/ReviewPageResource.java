@@ -0,0 +1,6 @@
+package com.metasoft.restyle.platform.reviews.interfaces.rest.resources;
+
+import java.util.List;
+
+public record ReviewPageResource(List<ReviewResource> reviews, String nextPageToken) {
+}
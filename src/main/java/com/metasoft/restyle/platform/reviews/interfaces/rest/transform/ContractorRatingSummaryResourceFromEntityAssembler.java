@@ -0,0 +1,15 @@
+package com.metasoft.restyle.platform.reviews.interfaces.rest.transform;
+
+import com.metasoft.restyle.platform.reviews.domain.model.entities.ContractorRatingSummary;
+import com.metasoft.restyle.platform.reviews.interfaces.rest.resources.ContractorRatingSummaryResource;
+
+public class ContractorRatingSummaryResourceFromEntityAssembler {
+    public static ContractorRatingSummaryResource toResourceFromEntity(ContractorRatingSummary entity) {
+        return new ContractorRatingSummaryResource(
+                entity.getContractorId(),
+                entity.getReviewCount(),
+                entity.getRatingSum(),
+                entity.getMean(),
+                entity.getHistogram());
+    }
+}
@@ -0,0 +1,21 @@
+package com.metasoft.restyle.platform.shared.domain.model.valueobjects;
+
+/**
+ * The outcome of one item of a bulk command.
+ * @param item the created item, or null when the item was rejected
+ * @param error the reason the item was rejected, or null when it was created
+ */
+public record BulkItemResult<T>(T item, String error) {
+
+    public static <T> BulkItemResult<T> created(T item) {
+        return new BulkItemResult<>(item, null);
+    }
+
+    public static <T> BulkItemResult<T> rejected(String error) {
+        return new BulkItemResult<>(null, error);
+    }
+
+    public boolean isCreated() {
+        return error == null;
+    }
+}
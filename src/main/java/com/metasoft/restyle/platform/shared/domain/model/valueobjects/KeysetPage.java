@@ -0,0 +1,26 @@
+package com.metasoft.restyle.platform.shared.domain.model.valueobjects;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page of a keyset-paginated listing.
+ * @param items the items of the page, in key order
+ * @param nextKey the key to continue after, or null when this is the last page
+ */
+public record KeysetPage<T>(List<T> items, Long nextKey) {
+
+    /**
+     * Builds a page from a result fetched with one item more than the page size, so the extra item tells whether
+     * another page follows without a count query.
+     * @param fetched the fetched items, at most {@code size + 1}
+     * @param size the page size
+     * @param keyExtractor the function that returns the key of an item
+     * @return the page
+     */
+    public static <T> KeysetPage<T> of(List<T> fetched, int size, Function<T, Long> keyExtractor) {
+        if (fetched.size() <= size) return new KeysetPage<>(fetched, null);
+        var items = fetched.subList(0, size);
+        return new KeysetPage<>(items, keyExtractor.apply(items.get(size - 1)));
+    }
+}
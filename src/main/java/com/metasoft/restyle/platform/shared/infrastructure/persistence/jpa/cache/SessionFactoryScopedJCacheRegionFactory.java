@@ -0,0 +1,26 @@
+package com.metasoft.restyle.platform.shared.infrastructure.persistence.jpa.cache;
+
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+
+import javax.cache.spi.CachingProvider;
+
+/**
+ * JCache region factory that gives each session factory a cache manager of its own.
+ * <p>
+ * JCache providers hand out one cache manager per configuration URI and class loader, and Hibernate closes that
+ * manager when its session factory shuts down. Closing one application context would then close the caches of any
+ * other context running in the same JVM, as happens across test contexts. Asking the provider for the manager through
+ * a class loader owned by this factory keeps the manager, and its regions, private to one session factory. The provider
+ * only holds that class loader weakly, so the factory keeps it reachable for as long as the manager is in use.
+ * </p>
+ */
+public class SessionFactoryScopedJCacheRegionFactory extends JCacheRegionFactory {
+
+    private volatile ClassLoader classLoader;
+
+    @Override
+    protected ClassLoader getClassLoader(CachingProvider cachingProvider) {
+        if (classLoader == null) classLoader = new ClassLoader(super.getClassLoader(cachingProvider)) { };
+        return classLoader;
+    }
+}
@@ -0,0 +1,34 @@
+package com.metasoft.restyle.platform.shared.infrastructure.persistence.jpa.constraints;
+
+import java.text.Collator;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Compares text the way the schema's default MySQL collation, {@code utf8mb4_0900_ai_ci}, does in unique keys.
+ * <p>
+ * That collation ignores case and accents, so {@code "Cocina"}, {@code "cocina"} and {@code "Cocína"} are the same
+ * name to a unique constraint. Checks made in memory before an insert must compare names the same way, or they let
+ * through values the constraint then rejects.
+ * </p>
+ */
+public final class ColumnCollation {
+
+    private ColumnCollation() {
+    }
+
+    /**
+     * Creates a set holding the given values, in which values that the collation considers equal are the same element.
+     * @param values The initial values.
+     * @return A new mutable set.
+     */
+    public static Set<String> newSet(Collection<String> values) {
+        var collator = Collator.getInstance(Locale.ROOT);
+        collator.setStrength(Collator.PRIMARY);
+        var set = new TreeSet<String>(collator::compare);
+        set.addAll(values);
+        return set;
+    }
+}
@@ -0,0 +1,66 @@
+package com.metasoft.restyle.platform.shared.infrastructure.persistence.jpa.constraints;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Translates unique constraint violations into domain errors.
+ * <p>
+ * Creates rely on the unique constraints in the schema instead of an exists query before the insert, which takes a
+ * single round-trip and cannot race with a concurrent create. The insert must be flushed inside the supplied
+ * operation so the violation surfaces here.
+ * </p>
+ */
+public final class UniqueConstraintViolations {
+
+    private UniqueConstraintViolations() {
+    }
+
+    /**
+     * Runs an insert, turning a violation of the given unique constraint into the supplied exception.
+     * @param insert The flushed insert.
+     * @param constraintName The name of the unique constraint.
+     * @param onViolation The exception to throw when the constraint is violated.
+     * @return The result of the insert.
+     * @param <T> The type of the inserted aggregate.
+     */
+    public static <T> T insertOrThrow(Supplier<T> insert, String constraintName,
+                                      Supplier<? extends RuntimeException> onViolation) {
+        try {
+            return insert.get();
+        } catch (DataIntegrityViolationException e) {
+            if (isViolationOf(e, constraintName)) throw onViolation.get();
+            throw e;
+        }
+    }
+
+    /**
+     * Checks whether an integrity violation was raised by the given unique constraint.
+     * <p>
+     * Databases report the constraint differently (MySQL prefixes the table name, H2 reports the backing index), so
+     * the name is matched case-insensitively against the constraint name extracted by Hibernate and the driver
+     * messages in the cause chain.
+     * </p>
+     * @param exception The integrity violation.
+     * @param constraintName The name of the unique constraint.
+     * @return True if the violation was raised by the constraint.
+     */
+    public static boolean isViolationOf(DataIntegrityViolationException exception, String constraintName) {
+        var expected = constraintName.toLowerCase(Locale.ROOT);
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && contains(violation.getConstraintName(), expected)) {
+                return true;
+            }
+            if (contains(cause.getMessage(), expected)) return true;
+            if (cause.getCause() == cause) break;
+        }
+        return false;
+    }
+
+    private static boolean contains(String text, String expected) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(expected);
+    }
+}
@@ -0,0 +1,42 @@
+package com.metasoft.restyle.platform.shared.infrastructure.persistence.jpa.ids;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.OptimizableGenerator;
+import org.hibernate.id.PersistentIdentifierGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * Pooled id generator shared by the aggregates.
+ * <p>
+ * Identity columns make Hibernate insert each row on persist to learn its id, which disables JDBC insert batching.
+ * This generator reserves ids in blocks from a per-table sequence named {@code <table>_id_sequence}, emulated on
+ * MySQL by a single-row table that the naming strategy pluralizes like any other. Ids are handed out with the pooled-lo
+ * optimizer, so inserts can be deferred and batched. The block size is read from the
+ * {@value #ALLOCATION_SIZE_SETTING} Hibernate setting. The id columns of these tables have no auto_increment, so any
+ * insert made outside Hibernate must take its id from the same sequence table.
+ * </p>
+ */
+public class PooledSequenceIdGenerator extends SequenceStyleGenerator {
+
+    public static final String NAME = "pooled_sequence";
+    public static final String ALLOCATION_SIZE_SETTING = "restyle.id.allocation_size";
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        var settings = serviceRegistry.requireService(ConfigurationService.class).getSettings();
+        var allocationSize = ConfigurationHelper.getInt(ALLOCATION_SIZE_SETTING, settings, DEFAULT_ALLOCATION_SIZE);
+        var pooledParams = new Properties();
+        pooledParams.putAll(params);
+        pooledParams.putIfAbsent(SEQUENCE_PARAM, params.getProperty(PersistentIdentifierGenerator.TABLE) + "_id_sequence");
+        pooledParams.setProperty(OptimizableGenerator.INCREMENT_PARAM, String.valueOf(allocationSize));
+        pooledParams.setProperty(OptimizableGenerator.OPT_PARAM, "pooled-lo");
+        super.configure(type, pooledParams, serviceRegistry);
+    }
+}
@@ -0,0 +1,64 @@
+package com.metasoft.restyle.platform.shared.infrastructure.scheduling;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import lombok.Getter;
+import org.springframework.data.domain.Persistable;
+
+import java.util.Date;
+
+/**
+ * Scheduled job lock
+ * <p>
+ *     This entity is the lease that lets a single instance run a scheduled job. The instance holding it is recorded in
+ *     {@code lockedBy}, and nobody else can take it before {@code lockedUntil}. A new lease is always inserted, never
+ *     merged, so an instance creating the row at the same time as another one fails on the primary key instead of
+ *     overwriting the other lease.
+ * </p>
+ */
+@Getter
+@Entity
+public class ScheduledJobLock implements Persistable<String> {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(nullable = false)
+    private Date lockedUntil;
+
+    @Column(length = 36)
+    private String lockedBy;
+
+    @Transient
+    private boolean isNew = true;
+
+    public ScheduledJobLock(String name, String lockedBy, Date lockedUntil) {
+        this.name = name;
+        this.lockedBy = lockedBy;
+        this.lockedUntil = lockedUntil;
+    }
+
+    public ScheduledJobLock() {
+    }
+
+    @Override
+    public String getId() {
+        return name;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
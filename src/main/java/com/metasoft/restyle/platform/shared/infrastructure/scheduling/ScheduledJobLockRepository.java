@@ -0,0 +1,21 @@
+package com.metasoft.restyle.platform.shared.infrastructure.scheduling;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+
+@Repository
+public interface ScheduledJobLockRepository extends JpaRepository<ScheduledJobLock, String> {
+
+    // Takes the lease only when it has lapsed, so of several instances trying at once exactly one updates the row
+    @Modifying
+    @Query("update ScheduledJobLock l set l.lockedBy = :owner, l.lockedUntil = :until where l.name = :name and l.lockedUntil <= :now")
+    int acquire(String name, String owner, Date now, Date until);
+
+    @Modifying
+    @Query("update ScheduledJobLock l set l.lockedUntil = :until where l.name = :name and l.lockedBy = :owner")
+    int release(String name, String owner, Date until);
+}
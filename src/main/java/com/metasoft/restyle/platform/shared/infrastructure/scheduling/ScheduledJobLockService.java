@@ -0,0 +1,76 @@
+package com.metasoft.restyle.platform.shared.infrastructure.scheduling;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Scheduled Job Lock Service.
+ * <p>
+ * Every instance of the platform runs the scheduled jobs. A job that must run on one instance only first takes a lease
+ * on its row of the scheduled job locks table, with a conditional update that only one instance can win. The lease
+ * lapses after {@code lockAtMostFor}, so an instance that dies while running the job does not block it forever. When
+ * the job ends the lease is kept until {@code lockAtLeastFor} has passed, so an instance whose scheduler fires a little
+ * later does not run the job again. Each lease is taken and released in its own transaction.
+ * </p>
+ */
+@Service
+public class ScheduledJobLockService {
+
+    private final ScheduledJobLockRepository scheduledJobLockRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public ScheduledJobLockService(ScheduledJobLockRepository scheduledJobLockRepository, PlatformTransactionManager transactionManager) {
+        this.scheduledJobLockRepository = scheduledJobLockRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Runs the job when no other instance holds its lease.
+     * @param name The name of the job.
+     * @param lockAtLeastFor How long the lease is kept from the start of the job, even when the job ends sooner.
+     * @param lockAtMostFor How long the lease is kept when the job does not end.
+     * @param job The job.
+     * @return Whether the job was run.
+     */
+    public boolean runExclusively(String name, Duration lockAtLeastFor, Duration lockAtMostFor, Runnable job) {
+        var owner = UUID.randomUUID().toString();
+        var startedAt = new Date();
+        if (!acquire(name, owner, startedAt, plus(startedAt, lockAtMostFor))) return false;
+        try {
+            job.run();
+        } finally {
+            var endedAt = new Date();
+            var until = plus(startedAt, lockAtLeastFor);
+            transactionTemplate.executeWithoutResult(status ->
+                    scheduledJobLockRepository.release(name, owner, until.after(endedAt) ? until : endedAt));
+        }
+        return true;
+    }
+
+    private boolean acquire(String name, String owner, Date now, Date until) {
+        var updated = transactionTemplate.execute(status -> scheduledJobLockRepository.acquire(name, owner, now, until));
+        if (updated != null && updated == 1) return true;
+        if (scheduledJobLockRepository.existsById(name)) return false;
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    scheduledJobLockRepository.saveAndFlush(new ScheduledJobLock(name, owner, until)));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created the lease first
+            return false;
+        }
+    }
+
+    private static Date plus(Date date, Duration duration) {
+        return new Date(date.getTime() + duration.toMillis());
+    }
+}
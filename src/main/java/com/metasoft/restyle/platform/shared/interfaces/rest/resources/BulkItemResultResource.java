@@ -0,0 +1,11 @@
+package com.metasoft.restyle.platform.shared.interfaces.rest.resources;
+
+/**
+ * The outcome of one item of a bulk request.
+ * @param index the position of the item in the request
+ * @param item the created resource, or null when the item was rejected
+ * @param error the reason the item was rejected, or null when it was created
+ */
+public record BulkItemResultResource<T>(int index, T item, String error) {
+
+}
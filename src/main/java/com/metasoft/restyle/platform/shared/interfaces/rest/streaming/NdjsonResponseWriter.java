@@ -0,0 +1,67 @@
+package com.metasoft.restyle.platform.shared.interfaces.rest.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * NDJSON Response Writer.
+ * <p>
+ * This class writes the entities of a repository stream as newline-delimited JSON, one resource per line, as they are
+ * read. The stream is consumed inside a read-only transaction, and each entity is detached once written, so neither
+ * the response nor the persistence context grows with the number of rows.
+ * </p>
+ */
+@Component
+public class NdjsonResponseWriter {
+
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    private static final int FLUSH_INTERVAL = 100;
+
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public NdjsonResponseWriter(ObjectMapper objectMapper, EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Builds a streaming response from a repository stream.
+     * @param source The supplier of the stream, called inside the transaction.
+     * @param assembler The function that maps an entity to its resource.
+     * @return The streaming response.
+     */
+    public <T, R> ResponseEntity<StreamingResponseBody> write(Supplier<Stream<T>> source, Function<T, R> assembler) {
+        StreamingResponseBody body = outputStream -> transactionTemplate.executeWithoutResult(status -> {
+            try (var entities = source.get()) {
+                var count = 0;
+                for (var iterator = entities.iterator(); iterator.hasNext(); ) {
+                    var entity = iterator.next();
+                    outputStream.write(objectMapper.writeValueAsBytes(assembler.apply(entity)));
+                    outputStream.write('\n');
+                    entityManager.detach(entity);
+                    if (++count % FLUSH_INTERVAL == 0) outputStream.flush();
+                }
+                outputStream.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE)).body(body);
+    }
+}
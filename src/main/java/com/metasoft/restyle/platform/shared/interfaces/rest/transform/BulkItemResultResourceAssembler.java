@@ -0,0 +1,51 @@
+package com.metasoft.restyle.platform.shared.interfaces.rest.transform;
+
+import com.metasoft.restyle.platform.shared.domain.model.valueobjects.BulkItemResult;
+import com.metasoft.restyle.platform.shared.interfaces.rest.resources.BulkItemResultResource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Runs a bulk command for the items of a bulk request and assembles one result per item, in request order.
+ * <p>
+ * Items that do not make a valid command are rejected with the validation message and left out of the bulk command,
+ * so one invalid item does not fail the others.
+ * </p>
+ */
+public class BulkItemResultResourceAssembler {
+
+    public static <R, C, T, O> List<BulkItemResultResource<O>> toResourcesFromResults(List<R> resources,
+                                                                                        Function<R, C> toCommand,
+                                                                                        Function<List<C>, List<BulkItemResult<T>>> handle,
+                                                                                        Function<T, O> toResource) {
+        var results = new ArrayList<BulkItemResultResource<O>>(resources.size());
+        var commands = new ArrayList<C>(resources.size());
+        var commandIndexes = new ArrayList<Integer>(resources.size());
+        for (int index = 0; index < resources.size(); index++) {
+            try {
+                commands.add(toCommand.apply(resources.get(index)));
+                commandIndexes.add(index);
+                results.add(null);
+            } catch (IllegalArgumentException e) {
+                results.add(new BulkItemResultResource<>(index, null, e.getMessage()));
+            }
+        }
+        if (commands.isEmpty()) return results;
+
+        var handled = handle.apply(commands);
+        for (int i = 0; i < handled.size(); i++) {
+            var result = handled.get(i);
+            int index = commandIndexes.get(i);
+            results.set(index, result.isCreated()
+                    ? new BulkItemResultResource<>(index, toResource.apply(result.item()), null)
+                    : new BulkItemResultResource<>(index, null, result.error()));
+        }
+        return results;
+    }
+
+    public static boolean allCreated(List<? extends BulkItemResultResource<?>> results) {
+        return results.stream().allMatch(result -> result.error() == null);
+    }
+}
@@ -0,0 +1,31 @@
+package com.metasoft.restyle.platform.shared.interfaces.rest.transform;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes the key a paginated listing continues after as an opaque continuation token, so clients do not build or
+ * depend on it.
+ */
+public class ContinuationTokenCodec {
+
+    private static final String PREFIX = "k1:";
+
+    public static String encode(Long key) {
+        if (key == null) return null;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((PREFIX + key).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a continuation token.
+     * @param token the token, or null for the first page
+     * @return the key, or null for the first page
+     * @throws IllegalArgumentException when the token was not produced by {@link #encode(Long)}
+     */
+    public static Long decode(String token) {
+        if (token == null || token.isBlank()) return null;
+        var decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        if (!decoded.startsWith(PREFIX)) throw new IllegalArgumentException("Invalid continuation token");
+        return Long.parseLong(decoded.substring(PREFIX.length()));
+    }
+}
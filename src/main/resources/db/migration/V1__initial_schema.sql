@@ -0,0 +1,136 @@
+-- Baseline schema, matching the tables previously created by ddl-auto=update.
+-- Existing databases are baselined at this version and only run later migrations.
+
+create table businesses (
+    remodeler_id integer not null,
+    id bigint not null auto_increment,
+    address varchar(255) not null,
+    city varchar(255) not null,
+    description varchar(255) not null,
+    expertise varchar(255) not null,
+    image varchar(255),
+    name varchar(255) not null,
+    primary key (id)
+);
+
+create table profiles (
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6) not null,
+    address varchar(255),
+    first_name varchar(255),
+    maternal_last_name varchar(255),
+    password varchar(255),
+    paternal_last_name varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table contractors (
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6) not null,
+    user_id bigint,
+    description varchar(255),
+    phone varchar(255),
+    primary key (id),
+    constraint uk_contractors_user_id unique (user_id),
+    constraint fk_contractors_profile foreign key (user_id) references profiles (id)
+);
+
+create table remodelers (
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6) not null,
+    user_id bigint,
+    description varchar(255),
+    phone varchar(255),
+    subscription varchar(255),
+    primary key (id),
+    constraint uk_remodelers_user_id unique (user_id),
+    constraint fk_remodelers_profile foreign key (user_id) references profiles (id)
+);
+
+create table projects (
+    business_id integer not null,
+    contractor_id integer not null,
+    finish_date datetime(6) not null,
+    id bigint not null auto_increment,
+    start_date datetime(6) not null,
+    description varchar(500) not null,
+    image varchar(500) not null,
+    name varchar(255) not null,
+    primary key (id)
+);
+
+create table project_requests (
+    budget integer not null,
+    business_id integer not null,
+    contractor_id integer not null,
+    rooms integer not null,
+    deadline_date datetime(6) not null,
+    id bigint not null auto_increment,
+    address varchar(255) not null,
+    city varchar(255) not null,
+    email varchar(255) not null,
+    name varchar(255) not null,
+    phone varchar(255) not null,
+    summary varchar(255) not null,
+    surname varchar(255) not null,
+    primary key (id)
+);
+
+create table reviews (
+    contractor_id integer,
+    project_id integer,
+    rating integer,
+    id bigint not null auto_increment,
+    comment varchar(255),
+    duration varchar(255),
+    image varchar(255),
+    primary key (id)
+);
+
+create table roles (
+    id bigint not null auto_increment,
+    name varchar(20),
+    primary key (id)
+);
+
+create table users (
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6) not null,
+    username varchar(50),
+    password varchar(120),
+    description varchar(255),
+    email varchar(255),
+    first_name varchar(255),
+    image varchar(255),
+    maternal_surname varchar(255),
+    paternal_surname varchar(255),
+    phone varchar(255),
+    primary key (id),
+    constraint uk_users_username unique (username)
+);
+
+create table user_roles (
+    role_id bigint not null,
+    user_id bigint not null,
+    primary key (role_id, user_id),
+    constraint fk_user_roles_role foreign key (role_id) references roles (id),
+    constraint fk_user_roles_user foreign key (user_id) references users (id)
+);
+
+create table refresh_tokens (
+    revoked bit not null,
+    created_at datetime(6) not null,
+    expires_at datetime(6) not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6) not null,
+    user_id bigint not null,
+    token_hash varchar(64) not null,
+    primary key (id),
+    constraint uk_refresh_tokens_token_hash unique (token_hash),
+    constraint fk_refresh_tokens_user foreign key (user_id) references users (id) on delete cascade
+);
@@ -0,0 +1,24 @@
+-- Secondary indexes for the columns the repositories filter on.
+-- users.username and refresh_tokens.token_hash are already covered by their unique constraints.
+
+create index ix_projects_business_id on projects (business_id);
+create index ix_projects_name on projects (name);
+
+create index ix_project_requests_business_id on project_requests (business_id);
+create index ix_project_requests_contractor_id on project_requests (contractor_id);
+create index ix_project_requests_name on project_requests (name);
+
+-- Leading contractor_id also serves contractor-only lookups
+create index ix_reviews_contractor_id_project_id on reviews (contractor_id, project_id);
+create index ix_reviews_project_id on reviews (project_id);
+
+create index ix_businesses_name on businesses (name);
+
+create index ix_profiles_address on profiles (address);
+
+create index ix_contractors_phone on contractors (phone);
+create index ix_remodelers_phone on remodelers (phone);
+
+-- Databases baselined from ddl-auto=update may hold roles.name as a MySQL enum
+alter table roles modify name varchar(20);
+create index ix_roles_name on roles (name);
@@ -0,0 +1,14 @@
+-- Creates detect duplicates through these constraints instead of an exists query before the insert.
+-- Duplicate rows already present must be resolved before this migration can run.
+
+drop index ix_businesses_name on businesses;
+alter table businesses add constraint uk_businesses_name unique (name);
+
+drop index ix_projects_name on projects;
+alter table projects add constraint uk_projects_name unique (name);
+
+drop index ix_project_requests_name on project_requests;
+alter table project_requests add constraint uk_project_requests_name unique (name);
+
+drop index ix_profiles_address on profiles;
+alter table profiles add constraint uk_profiles_address unique (address);
@@ -0,0 +1,29 @@
+-- Pooled id sequences, emulated with single-row tables since MySQL has no sequences.
+-- Each one starts after the highest id already in its table.
+
+create table businesses_id_sequences (next_val bigint);
+insert into businesses_id_sequences select coalesce(max(id), 0) + 1 from businesses;
+
+create table contractors_id_sequences (next_val bigint);
+insert into contractors_id_sequences select coalesce(max(id), 0) + 1 from contractors;
+
+create table profiles_id_sequences (next_val bigint);
+insert into profiles_id_sequences select coalesce(max(id), 0) + 1 from profiles;
+
+create table project_requests_id_sequences (next_val bigint);
+insert into project_requests_id_sequences select coalesce(max(id), 0) + 1 from project_requests;
+
+create table projects_id_sequences (next_val bigint);
+insert into projects_id_sequences select coalesce(max(id), 0) + 1 from projects;
+
+create table refresh_tokens_id_sequences (next_val bigint);
+insert into refresh_tokens_id_sequences select coalesce(max(id), 0) + 1 from refresh_tokens;
+
+create table remodelers_id_sequences (next_val bigint);
+insert into remodelers_id_sequences select coalesce(max(id), 0) + 1 from remodelers;
+
+create table reviews_id_sequences (next_val bigint);
+insert into reviews_id_sequences select coalesce(max(id), 0) + 1 from reviews;
+
+create table users_id_sequences (next_val bigint);
+insert into users_id_sequences select coalesce(max(id), 0) + 1 from users;
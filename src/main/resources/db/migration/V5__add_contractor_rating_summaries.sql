@@ -0,0 +1,30 @@
+-- Per-contractor rating summaries, kept up to date by the review command service.
+-- Existing reviews are summarized once here; the rebuild job recomputes them the same way.
+
+create table contractor_rating_summaries (
+    contractor_id integer not null,
+    review_count bigint not null,
+    rating_sum bigint not null,
+    one_star_count bigint not null,
+    two_star_count bigint not null,
+    three_star_count bigint not null,
+    four_star_count bigint not null,
+    five_star_count bigint not null,
+    version bigint,
+    primary key (contractor_id)
+);
+
+insert into contractor_rating_summaries (contractor_id, review_count, rating_sum, one_star_count, two_star_count,
+                                         three_star_count, four_star_count, five_star_count, version)
+select contractor_id,
+       count(*),
+       sum(rating),
+       sum(case when rating = 1 then 1 else 0 end),
+       sum(case when rating = 2 then 1 else 0 end),
+       sum(case when rating = 3 then 1 else 0 end),
+       sum(case when rating = 4 then 1 else 0 end),
+       sum(case when rating = 5 then 1 else 0 end),
+       0
+from reviews
+where contractor_id is not null and rating between 1 and 5
+group by contractor_id;
@@ -0,0 +1,8 @@
+-- Review listings filtered by contractor or project are paged by id, so each filter column is indexed together with
+-- the id: the filter and the keyset condition are one index range, already in page order.
+-- ix_reviews_contractor_id_project_id stays for lookups by contractor and project.
+
+create index ix_reviews_contractor_id_id on reviews (contractor_id, id);
+
+drop index ix_reviews_project_id on reviews;
+create index ix_reviews_project_id_id on reviews (project_id, id);
@@ -0,0 +1,18 @@
+-- Ids of the aggregates migrated to pooled sequences in V4 come only from the <table>_id_sequences tables. Keeping
+-- auto_increment let an insert without an id take one from the column counter, which the sequence table does not know
+-- about, so Hibernate could later hand out the same id and fail on the primary key. Inserts into these tables must now
+-- take their id from the sequence table. Referenced columns cannot change while foreign key checks are on.
+
+set foreign_key_checks = 0;
+
+alter table businesses modify id bigint not null;
+alter table contractors modify id bigint not null;
+alter table profiles modify id bigint not null;
+alter table project_requests modify id bigint not null;
+alter table projects modify id bigint not null;
+alter table refresh_tokens modify id bigint not null;
+alter table remodelers modify id bigint not null;
+alter table reviews modify id bigint not null;
+alter table users modify id bigint not null;
+
+set foreign_key_checks = 1;
@@ -0,0 +1,8 @@
+-- Leases that let a single instance run a scheduled job, taken by the scheduled job lock service.
+
+create table scheduled_job_locks (
+    name varchar(64) not null,
+    locked_until datetime(6) not null,
+    locked_by varchar(36),
+    primary key (name)
+);
@@ -0,0 +1,65 @@
+package com.metasoft.restyle.benchmark.IAM;
+
+import com.metasoft.restyle.platform.iam.infrastructure.tokens.jwt.cache.VerifiedTokenCache;
+import com.metasoft.restyle.platform.iam.infrastructure.tokens.jwt.services.TokenServiceImpl;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token verification throughput.
+ * <p>
+ *     {@code perCallParser} reproduces the previous behaviour of deriving the HMAC key and building a parser on every
+ *     verification; {@code cachedParser} goes through {@link TokenServiceImpl}, which builds both once;
+ *     {@code cachedVerification} also enables the {@link VerifiedTokenCache}.
+ *     Run with {@code java -cp target/test-classes:<test classpath> com.metasoft.restyle.benchmark.IAM.TokenServiceBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenServiceBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-0123456789";
+
+    private TokenServiceImpl tokenService;
+    private TokenServiceImpl cachingTokenService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenService = new TokenServiceImpl(SECRET, 7, 0, new VerifiedTokenCache(false, 0, 0, new SimpleMeterRegistry()));
+        cachingTokenService = new TokenServiceImpl(SECRET, 7, 0, new VerifiedTokenCache(true, 10_000, 30, new SimpleMeterRegistry()));
+        token = tokenService.generateToken("benchmark-user");
+    }
+
+    @Benchmark
+    public String perCallParser() {
+        var key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public String cachedParser() {
+        return tokenService.getUsernameFromToken(token);
+    }
+
+    @Benchmark
+    public String cachedVerification() {
+        return cachingTokenService.verifyToken(token).subject();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TokenServiceBenchmark.class.getSimpleName()).build()).run();
+    }
+}
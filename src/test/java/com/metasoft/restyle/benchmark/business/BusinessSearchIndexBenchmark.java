@@ -0,0 +1,87 @@
+package com.metasoft.restyle.benchmark.business;
+
+import com.metasoft.restyle.platform.business.domain.model.aggregates.Business;
+import com.metasoft.restyle.platform.business.domain.model.commands.CreateBusinessCommand;
+import com.metasoft.restyle.platform.business.infrastructure.search.BusinessSearchHit;
+import com.metasoft.restyle.platform.business.infrastructure.search.BusinessSearchIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Business search latency.
+ * <p>
+ *     Searches a {@link BusinessSearchIndex} holding {@code businessCount} synthetic businesses built from Spanish
+ *     remodeling vocabulary. {@code rareTerm} searches for a business name, {@code commonTerms} for words shared by a
+ *     large share of the businesses, and {@code accentedPhrase} for a phrase that has to be folded before matching.
+ *     Run with {@code java -cp target/test-classes:<test classpath> com.metasoft.restyle.benchmark.business.BusinessSearchIndexBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BusinessSearchIndexBenchmark {
+
+    private static final String[] TRADES = {"Remodelación", "Carpintería", "Gasfitería", "Electricidad", "Pintura",
+            "Albañilería", "Vidriería", "Cerrajería", "Jardinería", "Techado"};
+
+    private static final String[] CITIES = {"Lima", "Arequipa", "Cusco", "Trujillo", "Chiclayo", "Piura", "Iquitos",
+            "Huancayo", "Tacna", "Puno"};
+
+    private static final String[] WORDS = {"baños", "cocinas", "dormitorios", "fachadas", "terrazas", "pisos",
+            "techos", "muebles", "ventanas", "puertas", "escaleras", "jardines", "piscinas", "oficinas", "locales",
+            "departamentos", "casas", "acabados", "diseño", "instalación", "mantenimiento", "reparación", "garantía",
+            "presupuesto", "rápido", "económico", "calidad", "experiencia", "familiar", "profesional"};
+
+    @Param("100000")
+    public int businessCount;
+
+    private BusinessSearchIndex businessSearchIndex;
+
+    @Setup
+    public void setUp() {
+        var random = new Random(42);
+        businessSearchIndex = new BusinessSearchIndex();
+        businessSearchIndex.rebuild(LongStream.rangeClosed(1, businessCount).mapToObj(id -> business(id, random)));
+    }
+
+    @Benchmark
+    public List<BusinessSearchHit> rareTerm() {
+        return businessSearchIndex.search("empresa4242", 20);
+    }
+
+    @Benchmark
+    public List<BusinessSearchHit> commonTerms() {
+        return businessSearchIndex.search("remodelacion cocinas lima", 20);
+    }
+
+    @Benchmark
+    public List<BusinessSearchHit> accentedPhrase() {
+        return businessSearchIndex.search("Reparación de baños en Cusco con garantía", 20);
+    }
+
+    private static Business business(long id, Random random) {
+        var trade = TRADES[random.nextInt(TRADES.length)];
+        var description = new StringBuilder();
+        for (int i = 0; i < 12; i++) {
+            description.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        var business = new Business(new CreateBusinessCommand("Empresa" + id + " " + trade, "image.png", trade,
+                "Av. Principal " + id, CITIES[random.nextInt(CITIES.length)], description.toString(), 1));
+        business.setId(id);
+        return business;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(BusinessSearchIndexBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,113 @@
+package com.metasoft.restyle.integration.IAM;
+
+import com.metasoft.restyle.platform.iam.application.internal.commandservices.RefreshTokenCommandServiceImpl;
+import com.metasoft.restyle.platform.iam.application.internal.outboundservices.tokens.TokenService;
+import com.metasoft.restyle.platform.iam.domain.model.aggregates.RefreshToken;
+import com.metasoft.restyle.platform.iam.domain.model.aggregates.User;
+import com.metasoft.restyle.platform.iam.domain.model.commands.IssueRefreshTokenCommand;
+import com.metasoft.restyle.platform.iam.domain.model.commands.PurgeRefreshTokensCommand;
+import com.metasoft.restyle.platform.iam.domain.model.commands.RefreshAccessTokenCommand;
+import com.metasoft.restyle.platform.iam.domain.model.commands.RevokeRefreshTokenCommand;
+import com.metasoft.restyle.platform.iam.domain.model.entities.Role;
+import com.metasoft.restyle.platform.iam.domain.model.valueobjects.Roles;
+import com.metasoft.restyle.platform.iam.domain.services.RefreshTokenCommandService;
+import com.metasoft.restyle.platform.iam.infrastructure.persistence.jpa.repositories.RefreshTokenRepository;
+import com.metasoft.restyle.platform.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
+import com.metasoft.restyle.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
+import org.apache.commons.lang3.time.DateUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that a refresh token can be rotated only once and that the purge deletes the tokens that can no longer be
+ * used.
+ */
+@DataJpaTest
+@Import(RefreshTokenCommandServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+class RefreshTokenRotationIntegrationTest {
+
+    @MockBean
+    private TokenService tokenService;
+
+    @Autowired
+    private RefreshTokenCommandService refreshTokenCommandService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        var role = roleRepository.save(new Role(Roles.ROLE_CONTRACTOR));
+        user = userRepository.save(new User("testuser", "hashed_password", List.of(role), "test@example.com", "Test", "Paternal", "Maternal", "Description", "900000001", "image.png"));
+        when(tokenService.generateToken(any(), any())).thenReturn("access_token");
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+        roleRepository.deleteAll();
+    }
+
+    @Test
+    void refresh_withTheSameTokenTwice_shouldRotateItOnlyOnce() {
+        // Arrange
+        var rawToken = refreshTokenCommandService.handle(new IssueRefreshTokenCommand(user.getId()));
+
+        // Act
+        var first = refreshTokenCommandService.handle(new RefreshAccessTokenCommand(rawToken));
+        var second = refreshTokenCommandService.handle(new RefreshAccessTokenCommand(rawToken));
+
+        // Assert
+        assertTrue(first.isPresent());
+        assertTrue(second.isEmpty());
+        var rotated = first.get().getRight().refreshToken();
+        assertTrue(refreshTokenCommandService.handle(new RefreshAccessTokenCommand(rotated)).isPresent());
+    }
+
+    @Test
+    void purge_shouldDeleteRevokedAndExpiredTokensOnly() {
+        // Arrange
+        var active = refreshTokenCommandService.handle(new IssueRefreshTokenCommand(user.getId()));
+        var revoked = refreshTokenCommandService.handle(new IssueRefreshTokenCommand(user.getId()));
+        refreshTokenCommandService.handle(new RevokeRefreshTokenCommand(revoked));
+        refreshTokenRepository.save(new RefreshToken("expired", user, DateUtils.addDays(new Date(), -1)));
+
+        // Act
+        var purged = refreshTokenCommandService.handle(new PurgeRefreshTokensCommand());
+
+        // Assert
+        assertEquals(2, purged);
+        assertEquals(1, refreshTokenRepository.count());
+        assertTrue(refreshTokenCommandService.handle(new RefreshAccessTokenCommand(active)).isPresent());
+    }
+}
@@ -0,0 +1,85 @@
+package com.metasoft.restyle.integration.IAM;
+
+import com.metasoft.restyle.platform.iam.application.internal.registries.RoleRegistry;
+import com.metasoft.restyle.platform.iam.domain.model.aggregates.User;
+import com.metasoft.restyle.platform.iam.domain.model.entities.Role;
+import com.metasoft.restyle.platform.iam.domain.model.valueobjects.Roles;
+import com.metasoft.restyle.platform.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
+import com.metasoft.restyle.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that users can be saved with the roles held by the registry, outside any transaction that loaded them,
+ * without querying or inserting roles.
+ */
+@DataJpaTest
+@Import(RoleRegistry.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class RoleRegistryIntegrationTest {
+
+    @Autowired
+    private RoleRegistry roleRegistry;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Arrays.stream(Roles.values()).forEach(name -> roleRepository.save(new Role(name)));
+        roleRegistry.load();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        roleRepository.deleteAll();
+    }
+
+    @Test
+    void save_withRegistryRoles_shouldReferenceSeededRoles() {
+        // Arrange
+        var contractor = roleRegistry.findByName(Roles.ROLE_CONTRACTOR).orElseThrow();
+        statistics.clear();
+
+        // Act
+        userRepository.save(new User("first", "hashed_password", List.of(contractor), "first@example.com", "First", "Paternal", "Maternal", "Description", "900000001", "image.png"));
+        userRepository.save(new User("second", "hashed_password", List.of(contractor), "second@example.com", "Second", "Paternal", "Maternal", "Description", "900000002", "image.png"));
+
+        // Assert
+        assertEquals(0, statistics.getEntityStatistics(Role.class.getName()).getLoadCount());
+        assertEquals(0, statistics.getEntityStatistics(Role.class.getName()).getInsertCount());
+        assertEquals(Roles.values().length, roleRepository.count());
+        assertEquals(List.of(Roles.ROLE_CONTRACTOR), userRepository.findByUsername("second").orElseThrow().getRoles().stream().map(Role::getName).toList());
+    }
+}
@@ -0,0 +1,72 @@
+package com.metasoft.restyle.integration.IAM;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.metasoft.restyle.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
+import com.metasoft.restyle.platform.iam.interfaces.rest.resources.SignUpResource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Signs users up through the endpoint with open-in-view disabled, so the roles they reference were loaded outside the
+ * request and must not be persisted again.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:signup;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.open-in-view=false",
+        "authorization.hashing.bcrypt.strength=4"
+})
+@DirtiesContext
+class SignUpIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void signUp_withOpenInViewDisabled_shouldCreateUsersSharingARole() throws Exception {
+        // Act
+        signUp("first");
+        signUp("second");
+
+        // Assert
+        var first = userRepository.findByUsername("first").orElseThrow();
+        var second = userRepository.findByUsername("second").orElseThrow();
+        assertEquals(first.getRoles().iterator().next().getId(), second.getRoles().iterator().next().getId());
+    }
+
+    private void signUp(String username) throws Exception {
+        var resource = new SignUpResource(username, "password123", List.of("ROLE_CONTRACTOR"), username + "@example.com",
+                "First", "Paternal", "Maternal", "Description", "900000001", "image.png");
+        mockMvc.perform(post("/api/v1/authentication/sign-up")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(resource)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.username").value(username))
+                .andExpect(jsonPath("$.roles[0]").value("ROLE_CONTRACTOR"));
+    }
+}
@@ -0,0 +1,119 @@
+package com.metasoft.restyle.integration.IAM;
+
+import com.metasoft.restyle.platform.iam.domain.model.aggregates.User;
+import com.metasoft.restyle.platform.iam.domain.model.entities.Role;
+import com.metasoft.restyle.platform.iam.domain.model.valueobjects.Roles;
+import com.metasoft.restyle.platform.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
+import com.metasoft.restyle.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Regression test for N+1 role loading: listing or streaming users must issue the same number of statements whatever
+ * the number of users.
+ */
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class UserRolesFetchIntegrationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    private List<Role> roles;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        roles = List.of(roleRepository.save(new Role(Roles.ROLE_CONTRACTOR)), roleRepository.save(new Role(Roles.ROLE_REMODELER)));
+    }
+
+    @Test
+    void findAllWithRoles_shouldIssueConstantStatementCountAsUsersGrow() {
+        // Arrange
+        createUsers(0, 3);
+        var statementsForFewUsers = countStatementsToListUsersWithRoles(3);
+        createUsers(3, 20);
+
+        // Act
+        var statementsForManyUsers = countStatementsToListUsersWithRoles(20);
+
+        // Assert
+        assertEquals(1, statementsForFewUsers);
+        assertEquals(statementsForFewUsers, statementsForManyUsers);
+    }
+
+    @Test
+    void streamAll_shouldIssueConstantStatementCountAsUsersGrow() {
+        // Arrange
+        createUsers(0, 3);
+        var statementsForFewUsers = countStatementsToStreamUsersWithRoles(3);
+        createUsers(3, 20);
+
+        // Act
+        var statementsForManyUsers = countStatementsToStreamUsersWithRoles(20);
+
+        // Assert
+        assertEquals(1, statementsForFewUsers);
+        assertEquals(statementsForFewUsers, statementsForManyUsers);
+    }
+
+    private long countStatementsToStreamUsersWithRoles(int expectedUsers) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<User> users;
+        try (var stream = userRepository.streamAll()) {
+            users = stream.toList();
+        }
+        var roleCount = users.stream().mapToInt(user -> user.getRoles().size()).sum();
+
+        assertEquals(expectedUsers, users.size());
+        assertEquals(expectedUsers * roles.size(), roleCount);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long countStatementsToListUsersWithRoles(int expectedUsers) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        var users = userRepository.findAllWithRoles();
+        var roleCount = users.stream().mapToInt(user -> user.getRoles().size()).sum();
+
+        assertEquals(expectedUsers, users.size());
+        assertEquals(expectedUsers * roles.size(), roleCount);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void createUsers(int from, int to) {
+        var roles = roleRepository.findAll();
+        for (int i = from; i < to; i++) {
+            userRepository.save(new User("user" + i, "hashed_password", roles, "user" + i + "@example.com",
+                    "First", "Paternal", "Maternal", "Description", "123456789", "image.jpg"));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.metasoft.restyle.integration.business;
+
+import com.metasoft.restyle.platform.business.application.internal.queryservices.BusinessQueryServiceImpl;
+import com.metasoft.restyle.platform.business.domain.model.aggregates.Business;
+import com.metasoft.restyle.platform.business.domain.model.commands.CreateBusinessCommand;
+import com.metasoft.restyle.platform.business.domain.model.queries.GetBusinessByIdQuery;
+import com.metasoft.restyle.platform.business.domain.services.BusinessQueryService;
+import com.metasoft.restyle.platform.business.infrastructure.persistance.jpa.BusinessRepository;
+import com.metasoft.restyle.platform.business.infrastructure.search.BusinessSearchIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that businesses are served from the second-level cache once loaded, and that the cache follows updates.
+ */
+@DataJpaTest
+@Import({BusinessQueryServiceImpl.class, BusinessSearchIndex.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class BusinessSecondLevelCacheIntegrationTest {
+
+    private static final String REGION = "businesses";
+
+    @Autowired
+    private BusinessQueryService businessQueryService;
+
+    @Autowired
+    private BusinessRepository businessRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Long businessId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        businessId = businessRepository.save(new Business(new CreateBusinessCommand("Cached Business", "image.png",
+                "Kitchens", "Av. Larco 123", "Lima", "Remodeling studio", 1))).getId();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        businessRepository.deleteAll();
+    }
+
+    @Test
+    void repeatedGetBusinessByIdQueries_shouldNotIssueSql() {
+        // Arrange
+        businessQueryService.handle(new GetBusinessByIdQuery(businessId));
+        statistics.clear();
+
+        // Act
+        var first = businessQueryService.handle(new GetBusinessByIdQuery(businessId));
+        var second = businessQueryService.handle(new GetBusinessByIdQuery(businessId));
+
+        // Assert
+        assertEquals("Cached Business", first.orElseThrow().getName());
+        assertEquals("Cached Business", second.orElseThrow().getName());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getDomainDataRegionStatistics(REGION).getHitCount());
+        assertEquals(0, statistics.getDomainDataRegionStatistics(REGION).getMissCount());
+    }
+
+    @Test
+    void getBusinessByIdQuery_afterUpdate_shouldReturnUpdatedBusinessFromCache() {
+        // Arrange
+        var business = businessQueryService.handle(new GetBusinessByIdQuery(businessId)).orElseThrow();
+        business.setName("Renamed Business");
+        businessRepository.save(business);
+        statistics.clear();
+
+        // Act
+        var result = businessQueryService.handle(new GetBusinessByIdQuery(businessId));
+
+        // Assert
+        assertEquals("Renamed Business", result.orElseThrow().getName());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+}
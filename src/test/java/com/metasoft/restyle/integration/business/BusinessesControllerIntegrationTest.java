@@ -129,6 +129,31 @@ public class BusinessesControllerIntegrationTest {
                 .andExpect(jsonPath("$[*].description", containsInAnyOrder(
                         "First Description", "Second Description", "Third Description")));
     }
+
+    @Test
+    void searchBusinessesReturnsBestMatchesFirst() throws Exception {
+        // Arrange
+        createTestBusiness("Remodelaciones Ñuñoa", "Baños y cocinas");
+        createTestBusiness("Pinturas Providencia", "Remodelación de baños");
+        createTestBusiness("Jardines Vitacura", "Paisajismo");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/businesses/search")
+                        .param("q", "remodelaciones banos")
+                        .with(user("testuser").roles("USER", "ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].name").value("Remodelaciones Ñuñoa"))
+                .andExpect(jsonPath("$[1].name").value("Pinturas Providencia"));
+    }
+
+    @Test
+    void searchBusinessesWithBlankTextReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/businesses/search")
+                        .param("q", " ")
+                        .with(user("testuser").roles("USER", "ADMIN")))
+                .andExpect(status().isBadRequest());
+    }
  /*
     @Test
     void createBusinessWithDuplicateNameReturnsBadRequest() throws Exception {
@@ -0,0 +1,112 @@
+package com.metasoft.restyle.integration.information;
+
+import com.metasoft.restyle.platform.information.profiles.domain.model.aggregates.Contractor;
+import com.metasoft.restyle.platform.information.profiles.domain.model.aggregates.Remodeler;
+import com.metasoft.restyle.platform.information.profiles.infrastructure.persistence.jpa.repositories.ContractorRepository;
+import com.metasoft.restyle.platform.information.profiles.infrastructure.persistence.jpa.repositories.RemodelerRepository;
+import com.metasoft.restyle.platform.profiles.domain.model.aggregates.Profile;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Regression test for N+1 profile loading: contractor and remodeler lookups must load their profiles in the same
+ * statement.
+ */
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ProfileFetchIntegrationTest {
+
+    private static final int ROWS = 10;
+
+    @Autowired
+    private ContractorRepository contractorRepository;
+
+    @Autowired
+    private RemodelerRepository remodelerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        for (int i = 0; i < ROWS; i++) {
+            var contractor = new Contractor("Contractor " + i, "+51900000" + i);
+            contractor.setProfile(persistProfile("contractor" + i + "@example.com", "contractor"));
+            contractorRepository.save(contractor);
+
+            var remodeler = new Remodeler("Remodeler " + i, "+51910000" + i, "BASIC");
+            remodeler.setProfile(persistProfile("remodeler" + i + "@example.com", "remodeler"));
+            remodelerRepository.save(remodeler);
+        }
+    }
+
+    @Test
+    void findAllWithProfile_shouldLoadContractorsAndProfilesInOneStatement() {
+        // Act
+        var statements = countStatements(() -> contractorRepository.findAllWithProfile().stream()
+                .map(contractor -> contractor.getProfile().getFullName())
+                .toList());
+
+        // Assert
+        assertEquals(1, statements);
+    }
+
+    @Test
+    void findWithProfileById_shouldLoadContractorAndProfileInOneStatement() {
+        var id = contractorRepository.findAll().get(0).getId();
+
+        var statements = countStatements(() -> contractorRepository.findWithProfileById(id).orElseThrow().getProfile().getFullName());
+
+        assertEquals(1, statements);
+    }
+
+    @Test
+    void findAllWithProfile_shouldLoadRemodelersAndProfilesInOneStatement() {
+        var statements = countStatements(() -> remodelerRepository.findAllWithProfile().stream()
+                .map(remodeler -> remodeler.getProfile().getFullName())
+                .toList());
+
+        assertEquals(1, statements);
+    }
+
+    @Test
+    void findWithProfileById_shouldLoadRemodelerAndProfileInOneStatement() {
+        var id = remodelerRepository.findAll().get(0).getId();
+
+        var statements = countStatements(() -> remodelerRepository.findWithProfileById(id).orElseThrow().getProfile().getFullName());
+
+        assertEquals(1, statements);
+    }
+
+    private long countStatements(Supplier<?> lookup) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        assertNotNull(lookup.get());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Profile persistProfile(String email, String type) {
+        var profile = new Profile(email, "hashed_password", type, "First", "Paternal", "Maternal");
+        entityManager.persist(profile);
+        return profile;
+    }
+}
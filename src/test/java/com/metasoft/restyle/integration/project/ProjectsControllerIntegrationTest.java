@@ -19,6 +19,7 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.util.Calendar;
 import java.util.Date;
+import java.util.List;
 
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -32,6 +33,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
         "spring.datasource.password=",
         "spring.datasource.driver-class-name=org.h2.Driver",
         "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
         "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
 })
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
@@ -103,6 +105,34 @@ public class ProjectsControllerIntegrationTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void shouldCreateProjectsInBulkWithOneResultPerItem() throws Exception {
+        // Arrange
+        var blankName = new CreateProjectResource(" ", "Description", 1, 2, startDate, finishDate, "https://example.com/image.jpg");
+        var resources = List.of(validProjectResource, blankName, validProjectResource);
+
+        // Act & Assert
+        mockMvc.perform(MockMvcRequestBuilders
+                        .post("/api/v1/projects/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(resources)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].item.name", is("API Test Project")))
+                .andExpect(jsonPath("$[1].index", is(1)))
+                .andExpect(jsonPath("$[1].error", is("name cannot be null or empty")))
+                .andExpect(jsonPath("$[2].error", is("Project with same name already exists")));
+    }
+
+    @Test
+    void shouldRejectEmptyBulkCreate() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders
+                        .post("/api/v1/projects/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldGetProjectById() throws Exception {
         // Arrange - Create a project to retrieve later
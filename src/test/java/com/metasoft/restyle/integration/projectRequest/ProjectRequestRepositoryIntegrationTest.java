@@ -25,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.*;
         "spring.datasource.password=",
         "spring.datasource.driver-class-name=org.h2.Driver",
         "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
         "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
 })
 public class ProjectRequestRepositoryIntegrationTest {
@@ -0,0 +1,138 @@
+package com.metasoft.restyle.integration.reviews;
+
+import com.metasoft.restyle.platform.reviews.application.internal.commandservices.ReviewCommandServiceImpl;
+import com.metasoft.restyle.platform.reviews.domain.model.commands.CreateReviewCommand;
+import com.metasoft.restyle.platform.reviews.domain.model.commands.DeleteReviewCommand;
+import com.metasoft.restyle.platform.reviews.domain.model.commands.RebuildContractorRatingSummariesCommand;
+import com.metasoft.restyle.platform.reviews.domain.model.entities.ContractorRatingSummary;
+import com.metasoft.restyle.platform.reviews.domain.services.ReviewCommandService;
+import com.metasoft.restyle.platform.reviews.infrastructure.persistence.jpa.repositories.ContractorRatingSummaryRepository;
+import com.metasoft.restyle.platform.reviews.infrastructure.persistence.jpa.repositories.ReviewRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the rating summaries maintained review by review match the ones rebuilt from the reviews, and that the
+ * rebuild drops the summaries of contractors without reviews. The summaries
+ * are written with MySQL upserts, so the database runs in MySQL mode.
+ */
+@DataJpaTest
+@Import(ReviewCommandServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ratings;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+class ContractorRatingSummaryIntegrationTest {
+
+    @Autowired
+    private ReviewCommandService reviewCommandService;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ContractorRatingSummaryRepository contractorRatingSummaryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        reviewRepository.deleteAll();
+        contractorRatingSummaryRepository.deleteAll();
+    }
+
+    @Test
+    void rebuild_shouldMatchIncrementallyMaintainedSummaries() {
+        // Arrange
+        reviewCommandService.handle(new CreateReviewCommand(1, 1, "1 month", 5, "Excellent", "image.jpg"));
+        reviewCommandService.handle(new CreateReviewCommand(1, 2, "1 month", 3, "Fine", "image.jpg"));
+        var deleted = reviewCommandService.handle(new CreateReviewCommand(1, 3, "1 month", 1, "Poor", "image.jpg")).orElseThrow();
+        reviewCommandService.handle(new CreateReviewCommand(2, 4, "1 month", 4, "Good", "image.jpg"));
+        reviewCommandService.handle(new DeleteReviewCommand(deleted.getId()));
+        var maintained = snapshot();
+        contractorRatingSummaryRepository.save(new ContractorRatingSummary(9, 1L, 0L, 0L, 0L, 0L));
+
+        // Act
+        var rebuilt = reviewCommandService.handle(new RebuildContractorRatingSummariesCommand());
+
+        // Assert
+        assertEquals(2, rebuilt);
+        assertEquals(maintained, snapshot());
+        var summary = contractorRatingSummaryRepository.findById(1).orElseThrow();
+        assertEquals(2, summary.getReviewCount());
+        assertEquals(8, summary.getRatingSum());
+        assertEquals(4.0, summary.getMean());
+        assertEquals(0, summary.getOneStarCount());
+    }
+
+    @Test
+    void create_withConcurrentFirstReviews_shouldCountBothReviews() throws Exception {
+        // Arrange
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        var firstCreated = new CountDownLatch(1);
+        var executor = Executors.newSingleThreadExecutor();
+
+        // Act
+        try {
+            var first = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                reviewCommandService.handle(new CreateReviewCommand(3, 1, "1 month", 5, "Excellent", "image.jpg"));
+                firstCreated.countDown();
+                // Keeps the first summary uncommitted while the second review is created
+                sleep(Duration.ofMillis(300));
+            }));
+            assertTrue(firstCreated.await(10, TimeUnit.SECONDS));
+            reviewCommandService.handle(new CreateReviewCommand(3, 2, "1 month", 3, "Fine", "image.jpg"));
+            first.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        var summary = contractorRatingSummaryRepository.findById(3).orElseThrow();
+        assertEquals(2, summary.getReviewCount());
+        assertEquals(8, summary.getRatingSum());
+        assertEquals(Map.of(1, 0L, 2, 0L, 3, 1L, 4, 0L, 5, 1L), summary.getHistogram());
+    }
+
+    private List<String> snapshot() {
+        return contractorRatingSummaryRepository.findAll().stream()
+                .sorted(Comparator.comparing(ContractorRatingSummary::getContractorId))
+                .map(summary -> summary.getContractorId() + ":" + summary.getReviewCount() + ":" + summary.getRatingSum() + ":" + summary.getHistogram())
+                .toList();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
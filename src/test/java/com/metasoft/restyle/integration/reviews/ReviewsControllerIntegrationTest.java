@@ -1,6 +1,7 @@
 package com.metasoft.restyle.integration.reviews;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import com.metasoft.restyle.platform.reviews.domain.model.aggregates.Review;
 import com.metasoft.restyle.platform.reviews.infrastructure.persistence.jpa.repositories.ReviewRepository;
 import com.metasoft.restyle.platform.reviews.interfaces.rest.resources.CreateReviewResource;
@@ -15,6 +16,7 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import static org.hamcrest.Matchers.*;
@@ -25,11 +27,12 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @AutoConfigureMockMvc
 @WithMockUser(username = "testuser", roles = {"USER", "ADMIN"}) // Add this annotation
 @TestPropertySource(properties = {
-        "spring.datasource.url=jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1",
+        "spring.datasource.url=jdbc:h2:mem:testdb;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
         "spring.datasource.username=sa",
         "spring.datasource.password=",
         "spring.datasource.driver-class-name=org.h2.Driver",
         "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
         "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
 })
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
@@ -84,9 +87,39 @@ public class ReviewsControllerIntegrationTest {
                         .get("/api/v1/reviews")
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(2)))
-                .andExpect(jsonPath("$[0].contractorId", is(1)))
-                .andExpect(jsonPath("$[1].contractorId", is(2)));
+                .andExpect(jsonPath("$.reviews", hasSize(2)))
+                .andExpect(jsonPath("$.reviews[0].contractorId", is(1)))
+                .andExpect(jsonPath("$.reviews[1].contractorId", is(2)))
+                .andExpect(jsonPath("$.nextPageToken", nullValue()));
+    }
+
+    @Test
+    void shouldPageThroughReviewsWithContinuationToken() throws Exception {
+        // Arrange - create three reviews
+        reviewRepository.save(new Review(1, 1, "2 months", 5, "Excellent work", "image1.jpg"));
+        reviewRepository.save(new Review(2, 2, "3 months", 4, "Good service", "image2.jpg"));
+        reviewRepository.save(new Review(3, 3, "1 month", 3, "Fair", "image3.jpg"));
+
+        // Act - first page
+        MvcResult firstPage = mockMvc.perform(MockMvcRequestBuilders
+                        .get("/api/v1/reviews")
+                        .param("size", "2")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reviews", hasSize(2)))
+                .andReturn();
+        String nextPageToken = JsonPath.read(firstPage.getResponse().getContentAsString(), "$.nextPageToken");
+
+        // Assert - second page holds the remaining review
+        mockMvc.perform(MockMvcRequestBuilders
+                        .get("/api/v1/reviews")
+                        .param("size", "2")
+                        .param("pageToken", nextPageToken)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reviews", hasSize(1)))
+                .andExpect(jsonPath("$.reviews[0].contractorId", is(3)))
+                .andExpect(jsonPath("$.nextPageToken", nullValue()));
     }
 
     @Test
@@ -134,6 +167,122 @@ public class ReviewsControllerIntegrationTest {
         // Verify the review was deleted
         assertTrue(reviewRepository.findById(savedReview.getId()).isEmpty());
     }
+
+    @Test
+    void shouldPageThroughContractorReviews() throws Exception {
+        // Arrange - three reviews of contractor 1 around one of contractor 2
+        reviewRepository.save(new Review(1, 1, "2 months", 5, "Excellent work", "image1.jpg"));
+        reviewRepository.save(new Review(2, 2, "3 months", 4, "Good service", "image2.jpg"));
+        reviewRepository.save(new Review(1, 3, "1 month", 3, "Fair", "image3.jpg"));
+        reviewRepository.save(new Review(1, 4, "1 month", 2, "Late", "image4.jpg"));
+
+        // Act - first page
+        MvcResult firstPage = mockMvc.perform(MockMvcRequestBuilders
+                        .get("/api/v1/reviews")
+                        .param("contractorId", "1")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reviews[*].projectId", contains(1, 3)))
+                .andReturn();
+        String nextPageToken = JsonPath.read(firstPage.getResponse().getContentAsString(), "$.nextPageToken");
+
+        // Assert - second page holds the remaining review of the contractor
+        mockMvc.perform(MockMvcRequestBuilders
+                        .get("/api/v1/reviews")
+                        .param("contractorId", "1")
+                        .param("size", "2")
+                        .param("pageToken", nextPageToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reviews[*].projectId", contains(4)))
+                .andExpect(jsonPath("$.nextPageToken", nullValue()));
+    }
+
+    @Test
+    void shouldPageThroughContractorReviewsOfAProject() throws Exception {
+        // Arrange - three reviews of contractor 8 on project 9 around others of the same contractor and project
+        reviewRepository.save(new Review(8, 9, "1 month", 5, "First", "image1.jpg"));
+        reviewRepository.save(new Review(8, 10, "1 month", 4, "Other project", "image2.jpg"));
+        reviewRepository.save(new Review(8, 9, "2 months", 3, "Second", "image3.jpg"));
+        reviewRepository.save(new Review(11, 9, "1 month", 2, "Other contractor", "image4.jpg"));
+        reviewRepository.save(new Review(8, 9, "3 months", 4, "Third", "image5.jpg"));
+
+        // Act - first page
+        MvcResult firstPage = mockMvc.perform(MockMvcRequestBuilders
+                        .get("/api/v1/reviews")
+                        .param("contractorId", "8")
+                        .param("projectId", "9")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reviews[*].comment", contains("First", "Second")))
+                .andReturn();
+        String nextPageToken = JsonPath.read(firstPage.getResponse().getContentAsString(), "$.nextPageToken");
+
+        // Assert - second page holds the remaining review of the contractor on the project
+        mockMvc.perform(MockMvcRequestBuilders
+                        .get("/api/v1/reviews")
+                        .param("contractorId", "8")
+                        .param("projectId", "9")
+                        .param("size", "2")
+                        .param("pageToken", nextPageToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reviews[*].comment", contains("Third")))
+                .andExpect(jsonPath("$.nextPageToken", nullValue()));
+    }
+
+    @Test
+    void shouldFilterReviewsByProjectAndByContractorAndProject() throws Exception {
+        reviewRepository.save(new Review(1, 5, "2 months", 5, "Excellent work", "image1.jpg"));
+        reviewRepository.save(new Review(2, 5, "3 months", 4, "Good service", "image2.jpg"));
+        reviewRepository.save(new Review(2, 6, "1 month", 3, "Fair", "image3.jpg"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/reviews").param("projectId", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reviews[*].contractorId", contains(1, 2)))
+                .andExpect(jsonPath("$.nextPageToken", nullValue()));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/reviews").param("contractorId", "2").param("projectId", "6"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reviews", hasSize(1)))
+                .andExpect(jsonPath("$.reviews[0].comment", is("Fair")));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/reviews").param("contractorId", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReturnContractorRatingSummaryMaintainedByCreateAndDelete() throws Exception {
+        // Arrange
+        for (int rating : new int[]{5, 4, 2}) {
+            mockMvc.perform(MockMvcRequestBuilders
+                            .post("/api/v1/reviews")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new CreateReviewResource(
+                                    7, rating, "1 month", rating, "Comment", "image.jpg"))))
+                    .andExpect(status().isCreated());
+        }
+        var lowestReview = reviewRepository.findAll().stream().filter(review -> review.getRating() == 2).findFirst().orElseThrow();
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/v1/reviews/{id}", lowestReview.getId()))
+                .andExpect(status().isOk());
+
+        // Act & Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/reviews/contractors/{contractorId}/rating-summary", 7))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contractorId", is(7)))
+                .andExpect(jsonPath("$.reviewCount", is(2)))
+                .andExpect(jsonPath("$.ratingSum", is(9)))
+                .andExpect(jsonPath("$.mean", is(4.5)))
+                .andExpect(jsonPath("$.histogram.2", is(0)))
+                .andExpect(jsonPath("$.histogram.4", is(1)))
+                .andExpect(jsonPath("$.histogram.5", is(1)));
+    }
+
+    @Test
+    void shouldReturnEmptyRatingSummaryForContractorWithoutReviews() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/reviews/contractors/{contractorId}/rating-summary", 99))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reviewCount", is(0)))
+                .andExpect(jsonPath("$.mean", nullValue()));
+    }
 /*
     @Test
     void shouldReturnNotFoundForNonExistentReview() throws Exception {
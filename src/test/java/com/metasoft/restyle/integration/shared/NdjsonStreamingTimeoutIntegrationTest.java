@@ -0,0 +1,111 @@
+package com.metasoft.restyle.integration.shared;
+
+import com.metasoft.restyle.platform.business.domain.model.aggregates.Business;
+import com.metasoft.restyle.platform.business.domain.model.commands.CreateBusinessCommand;
+import com.metasoft.restyle.platform.business.domain.model.queries.GetAllBusinessesQuery;
+import com.metasoft.restyle.platform.business.domain.services.BusinessQueryService;
+import com.metasoft.restyle.platform.iam.interfaces.rest.resources.AuthenticatedUserResource;
+import com.metasoft.restyle.platform.iam.interfaces.rest.resources.SignInResource;
+import com.metasoft.restyle.platform.iam.interfaces.rest.resources.SignUpResource;
+import com.metasoft.restyle.platform.shared.interfaces.rest.streaming.NdjsonResponseWriter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Streams a listing that takes longer than the container's async timeout, shortened here to half a second, and checks
+ * that the configured request timeout lets it complete instead of being cut off.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:streaming;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "authorization.hashing.bcrypt.strength=4"
+})
+@DirtiesContext
+class NdjsonStreamingTimeoutIntegrationTest {
+
+    private static final long CONTAINER_ASYNC_TIMEOUT_MILLIS = 500;
+
+    private static final int BUSINESSES = 15;
+
+    private static final long MILLIS_PER_BUSINESS = 100;
+
+    @TestConfiguration
+    static class ShortContainerAsyncTimeout {
+
+        @Bean
+        WebServerFactoryCustomizer<TomcatServletWebServerFactory> shortAsyncTimeout() {
+            return factory -> factory.addConnectorCustomizers(connector -> connector.setAsyncTimeout(CONTAINER_ASYNC_TIMEOUT_MILLIS));
+        }
+    }
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @MockBean
+    private BusinessQueryService businessQueryService;
+
+    @Test
+    void streamAllBusinesses_slowerThanTheContainerAsyncTimeout_shouldWriteEveryBusiness() {
+        // Arrange
+        when(businessQueryService.stream(any(GetAllBusinessesQuery.class))).thenAnswer(invocation ->
+                LongStream.rangeClosed(1, BUSINESSES).mapToObj(NdjsonStreamingTimeoutIntegrationTest::slowBusiness));
+        var headers = new HttpHeaders();
+        headers.setBearerAuth(signUpAndSignIn());
+        headers.setAccept(List.of(MediaType.parseMediaType(NdjsonResponseWriter.APPLICATION_NDJSON_VALUE)));
+
+        // Act
+        var response = restTemplate.exchange("/api/v1/businesses", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(BUSINESSES * MILLIS_PER_BUSINESS > CONTAINER_ASYNC_TIMEOUT_MILLIS);
+        assertEquals(BUSINESSES, response.getBody().lines().count());
+    }
+
+    private String signUpAndSignIn() {
+        var signUp = new SignUpResource("streamer", "password123", List.of("ROLE_CONTRACTOR"), "streamer@example.com",
+                "First", "Paternal", "Maternal", "Description", "900000001", "image.png");
+        assertEquals(HttpStatus.CREATED, restTemplate.postForEntity("/api/v1/authentication/sign-up", signUp, String.class).getStatusCode());
+        var signIn = restTemplate.postForEntity("/api/v1/authentication/sign-in", new SignInResource("streamer", "password123"), AuthenticatedUserResource.class);
+        return signIn.getBody().token();
+    }
+
+    private static Business slowBusiness(long id) {
+        try {
+            Thread.sleep(MILLIS_PER_BUSINESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        var business = new Business(new CreateBusinessCommand("Business " + id, "image.png", "Carpentry",
+                "Av. Principal " + id, "Lima", "Description", 1));
+        business.setId(id);
+        return business;
+    }
+}
@@ -0,0 +1,80 @@
+package com.metasoft.restyle.integration.shared;
+
+import com.metasoft.restyle.platform.business.domain.model.aggregates.Business;
+import com.metasoft.restyle.platform.business.domain.model.commands.CreateBusinessCommand;
+import com.metasoft.restyle.platform.business.infrastructure.persistance.jpa.BusinessRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that aggregate ids come from the pooled id sequences created by the migrations, so that saving many
+ * aggregates reserves their ids in one round trip and sends the inserts as a single JDBC batch.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:batching;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class PooledIdBatchingIntegrationTest {
+
+    private static final int ROWS = 20;
+
+    @Autowired
+    private BusinessRepository businessRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void saveAll_shouldReserveIdsOnceAndBatchTheInserts() {
+        // Arrange
+        var firstId = nextSequenceValue();
+        var businesses = IntStream.range(0, ROWS)
+                .mapToObj(i -> new Business(new CreateBusinessCommand("Business " + i, "image.png", "Kitchens",
+                        "Av. Larco " + i, "Lima", "Remodeling studio", 1)))
+                .toList();
+
+        // Act
+        businessRepository.saveAll(businesses);
+        entityManager.flush();
+
+        // Assert
+        assertEquals(ROWS, statistics.getEntityInsertCount());
+        assertEquals(ROWS, businesses.stream().map(Business::getId).distinct().count());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(firstId + 50, nextSequenceValue());
+    }
+
+    private long nextSequenceValue() {
+        return jdbcTemplate.queryForObject("select next_val from businesses_id_sequences", Long.class);
+    }
+}
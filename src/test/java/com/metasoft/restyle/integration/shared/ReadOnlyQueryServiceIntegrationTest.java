@@ -0,0 +1,111 @@
+package com.metasoft.restyle.integration.shared;
+
+import com.metasoft.restyle.platform.business.application.internal.queryservices.BusinessQueryServiceImpl;
+import com.metasoft.restyle.platform.business.domain.model.aggregates.Business;
+import com.metasoft.restyle.platform.business.domain.model.commands.CreateBusinessCommand;
+import com.metasoft.restyle.platform.business.domain.model.queries.GetBusinessByIdQuery;
+import com.metasoft.restyle.platform.business.domain.services.BusinessQueryService;
+import com.metasoft.restyle.platform.business.infrastructure.persistance.jpa.BusinessRepository;
+import com.metasoft.restyle.platform.business.infrastructure.search.BusinessSearchIndex;
+import com.metasoft.restyle.platform.information.profiles.application.internal.queryservices.ContractorQueryServiceImpl;
+import com.metasoft.restyle.platform.information.profiles.domain.model.aggregates.Contractor;
+import com.metasoft.restyle.platform.information.profiles.domain.model.queries.GetContractorByIdQuery;
+import com.metasoft.restyle.platform.information.profiles.domain.services.ContractorQueryService;
+import com.metasoft.restyle.platform.information.profiles.infrastructure.persistence.jpa.repositories.ContractorRepository;
+import com.metasoft.restyle.platform.profiles.domain.model.aggregates.Profile;
+import com.metasoft.restyle.platform.profiles.infrastructure.persistence.jpa.repositories.ProfileRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that query services run in their own read-only transactions, which Hibernate completes without a flush, and
+ * return aggregates whose state is fully initialized once the transaction has ended.
+ */
+@DataJpaTest
+@Import({BusinessQueryServiceImpl.class, BusinessSearchIndex.class, ContractorQueryServiceImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ReadOnlyQueryServiceIntegrationTest {
+
+    @Autowired
+    private BusinessQueryService businessQueryService;
+
+    @Autowired
+    private ContractorQueryService contractorQueryService;
+
+    @Autowired
+    private BusinessRepository businessRepository;
+
+    @Autowired
+    private ContractorRepository contractorRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        contractorRepository.deleteAll();
+        profileRepository.deleteAll();
+        businessRepository.deleteAll();
+    }
+
+    @Test
+    void handle_shouldRunInReadOnlyTransactionWithoutFlushing() {
+        // Arrange
+        var business = businessRepository.save(new Business(new CreateBusinessCommand("Read Only Business", "image.png",
+                "Kitchens", "Av. Larco 123", "Lima", "Remodeling studio", 1)));
+        statistics.clear();
+
+        // Act
+        var result = businessQueryService.handle(new GetBusinessByIdQuery(business.getId()));
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals(1, statistics.getSuccessfulTransactionCount());
+        assertEquals(0, statistics.getFlushCount());
+    }
+
+    @Test
+    void handle_shouldReturnInitializedAssociationsAfterTheTransaction() {
+        // Arrange
+        var contractor = new Contractor("Contractor", "+51900000000");
+        contractor.setProfile(profileRepository.save(new Profile("contractor@example.com", "hashed_password", "contractor",
+                "First", "Paternal", "Maternal")));
+        var id = contractorRepository.save(contractor).getId();
+
+        // Act
+        var result = contractorQueryService.handle(new GetContractorByIdQuery(id)).orElseThrow();
+
+        // Assert
+        assertTrue(Hibernate.isInitialized(result.getProfile()));
+        assertEquals("contractor@example.com", result.getProfile().getEmailAddress());
+    }
+}
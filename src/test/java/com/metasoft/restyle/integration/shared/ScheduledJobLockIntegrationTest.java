@@ -0,0 +1,131 @@
+package com.metasoft.restyle.integration.shared;
+
+import com.metasoft.restyle.platform.shared.infrastructure.scheduling.ScheduledJobLockRepository;
+import com.metasoft.restyle.platform.shared.infrastructure.scheduling.ScheduledJobLockService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that a scheduled job guarded by a lease runs on one instance at a time and not again before the lease ends.
+ */
+@DataJpaTest
+@Import(ScheduledJobLockService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+class ScheduledJobLockIntegrationTest {
+
+    private static final String JOB = "job";
+
+    @Autowired
+    private ScheduledJobLockService scheduledJobLockService;
+
+    @Autowired
+    private ScheduledJobLockRepository scheduledJobLockRepository;
+
+    @AfterEach
+    void tearDown() {
+        scheduledJobLockRepository.deleteAll();
+    }
+
+    @Test
+    void runExclusively_whileTheJobRuns_shouldSkipIt() {
+        // Arrange
+        var nestedRan = new AtomicBoolean();
+
+        // Act
+        var ran = scheduledJobLockService.runExclusively(JOB, Duration.ZERO, Duration.ofMinutes(10), () ->
+                nestedRan.set(scheduledJobLockService.runExclusively(JOB, Duration.ZERO, Duration.ofMinutes(10), () -> {})));
+
+        // Assert
+        assertTrue(ran);
+        assertFalse(nestedRan.get());
+    }
+
+    @Test
+    void runExclusively_beforeLockAtLeastForHasPassed_shouldSkipIt() {
+        // Arrange
+        var runs = new AtomicInteger();
+        scheduledJobLockService.runExclusively(JOB, Duration.ofMinutes(1), Duration.ofMinutes(10), runs::incrementAndGet);
+
+        // Act
+        var ran = scheduledJobLockService.runExclusively(JOB, Duration.ofMinutes(1), Duration.ofMinutes(10), runs::incrementAndGet);
+
+        // Assert
+        assertFalse(ran);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void runExclusively_afterTheLeaseEnds_shouldRunItAgain() {
+        // Arrange
+        var runs = new AtomicInteger();
+        scheduledJobLockService.runExclusively(JOB, Duration.ZERO, Duration.ofMinutes(10), runs::incrementAndGet);
+
+        // Act
+        var ran = scheduledJobLockService.runExclusively(JOB, Duration.ZERO, Duration.ofMinutes(10), runs::incrementAndGet);
+
+        // Assert
+        assertTrue(ran);
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void runExclusively_whenTheJobFails_shouldReleaseTheLease() {
+        // Arrange
+        assertThrows(IllegalStateException.class, () -> scheduledJobLockService.runExclusively(JOB, Duration.ZERO,
+                Duration.ofMinutes(10), () -> { throw new IllegalStateException("Job failed"); }));
+
+        // Act
+        var ran = scheduledJobLockService.runExclusively(JOB, Duration.ZERO, Duration.ofMinutes(10), () -> {});
+
+        // Assert
+        assertTrue(ran);
+    }
+
+    @Test
+    void runExclusively_fromSeveralInstancesOnTheFirstRun_shouldRunTheJobOnce() throws Exception {
+        // Arrange
+        int instances = 8;
+        var runs = new AtomicInteger();
+        var start = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(instances);
+
+        // Act
+        try {
+            List<Future<Boolean>> attempts = IntStream.range(0, instances).mapToObj(instance -> executor.submit(() -> {
+                start.await();
+                return scheduledJobLockService.runExclusively(JOB, Duration.ofMinutes(1), Duration.ofMinutes(10), runs::incrementAndGet);
+            })).toList();
+            start.countDown();
+            for (var attempt : attempts) attempt.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(1, runs.get());
+        assertEquals(1, scheduledJobLockRepository.count());
+    }
+}
@@ -0,0 +1,80 @@
+package com.metasoft.restyle.integration.shared;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the Flyway migrations on an in-memory database in MySQL mode and lets Hibernate validate the entity mappings
+ * against the resulting schema, so a mapping change without its migration fails here instead of at startup.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:migrations;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect"
+})
+class SchemaMigrationIntegrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migrations_shouldBeFullyAppliedAndMatchEntityMappings() {
+        // Act
+        var pending = flyway.info().pending();
+
+        // Assert
+        assertEquals(0, pending.length);
+        assertNotNull(flyway.info().current());
+    }
+
+    @Test
+    void migrations_shouldCreateLookupIndexes() {
+        var indexes = jdbcTemplate.queryForList(
+                "select index_name from information_schema.indexes where index_name like 'ix_%'", String.class);
+
+        assertTrue(indexes.containsAll(List.of(
+                "ix_projects_business_id",
+                "ix_project_requests_business_id",
+                "ix_project_requests_contractor_id",
+                "ix_reviews_contractor_id_project_id",
+                "ix_reviews_contractor_id_id",
+                "ix_reviews_project_id_id")));
+    }
+
+    @Test
+    void migrations_shouldCreateUniqueConstraintsUsedForDuplicateDetection() {
+        var constraints = jdbcTemplate.queryForList(
+                "select constraint_name from information_schema.table_constraints where constraint_type = 'UNIQUE'", String.class);
+
+        assertTrue(constraints.containsAll(List.of(
+                "uk_businesses_name",
+                "uk_projects_name",
+                "uk_project_requests_name",
+                "uk_profiles_address")));
+    }
+
+    @Test
+    void migrations_shouldLeaveSequenceBackedIdsWithoutAutoIncrement() {
+        var identityTables = jdbcTemplate.queryForList(
+                "select table_name from information_schema.columns where column_name = 'id' and is_identity = 'YES'", String.class);
+
+        assertEquals(List.of("roles"), identityTables);
+    }
+}
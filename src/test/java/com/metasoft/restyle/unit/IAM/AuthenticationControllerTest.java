@@ -0,0 +1,81 @@
+package com.metasoft.restyle.unit.IAM;
+
+import com.metasoft.restyle.platform.iam.domain.model.commands.SignInCommand;
+import com.metasoft.restyle.platform.iam.domain.services.RefreshTokenCommandService;
+import com.metasoft.restyle.platform.iam.domain.services.UserCommandService;
+import com.metasoft.restyle.platform.iam.infrastructure.throttling.SignInRateLimiter;
+import com.metasoft.restyle.platform.iam.interfaces.rest.AuthenticationController;
+import com.metasoft.restyle.platform.iam.interfaces.rest.resources.SignInResource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthenticationControllerTest {
+
+    @Mock
+    private UserCommandService userCommandService;
+
+    @Mock
+    private RefreshTokenCommandService refreshTokenCommandService;
+
+    private SignInRateLimiter signInRateLimiter;
+
+    private AuthenticationController authenticationController;
+
+    @BeforeEach
+    void setUp() {
+        signInRateLimiter = new SignInRateLimiter(true, 2, 60, 2, 900, new SimpleMeterRegistry());
+        authenticationController = new AuthenticationController(userCommandService, refreshTokenCommandService, signInRateLimiter);
+    }
+
+    @Test
+    void signIn_blockedByAddress_shouldSetRetryAfterFromTheAddressWindow() {
+        // Arrange
+        when(userCommandService.handle(any(SignInCommand.class))).thenReturn(Optional.empty());
+        authenticationController.SignIn(new SignInResource("first", "password"), requestFrom("10.0.0.1"));
+        authenticationController.SignIn(new SignInResource("second", "password"), requestFrom("10.0.0.1"));
+
+        // Act
+        var response = authenticationController.SignIn(new SignInResource("third", "password"), requestFrom("10.0.0.1"));
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        var retryAfter = Long.parseLong(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertTrue(retryAfter >= 1 && retryAfter <= 60, "Retry-After " + retryAfter);
+    }
+
+    @Test
+    void signIn_blockedByUsername_shouldSetRetryAfterFromTheUsernameWindow() {
+        // Arrange
+        signInRateLimiter.recordFailure("testuser");
+        signInRateLimiter.recordFailure("testuser");
+
+        // Act
+        var response = authenticationController.SignIn(new SignInResource("testuser", "password"), requestFrom("10.0.0.2"));
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        var retryAfter = Long.parseLong(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertTrue(retryAfter > 60 && retryAfter <= 900, "Retry-After " + retryAfter);
+        verifyNoInteractions(userCommandService);
+    }
+
+    private static MockHttpServletRequest requestFrom(String remoteAddress) {
+        var request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddress);
+        return request;
+    }
+}
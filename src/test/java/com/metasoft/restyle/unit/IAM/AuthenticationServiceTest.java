@@ -1,13 +1,14 @@
 package com.metasoft.restyle.unit.IAM;
 
 import com.metasoft.restyle.platform.iam.application.internal.commandservices.UserCommandServiceImpl;
+import com.metasoft.restyle.platform.iam.application.internal.outboundservices.hashing.HashingCapacityExceededException;
 import com.metasoft.restyle.platform.iam.application.internal.outboundservices.hashing.HashingService;
 import com.metasoft.restyle.platform.iam.application.internal.outboundservices.tokens.TokenService;
 import com.metasoft.restyle.platform.iam.domain.model.aggregates.User;
 import com.metasoft.restyle.platform.iam.domain.model.commands.SignInCommand;
 import com.metasoft.restyle.platform.iam.domain.model.entities.Role;
 import com.metasoft.restyle.platform.iam.domain.model.valueobjects.Roles;
-import com.metasoft.restyle.platform.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
+import com.metasoft.restyle.platform.iam.application.internal.registries.RoleRegistry;
 import com.metasoft.restyle.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
 import com.metasoft.restyle.platform.iam.infrastructure.tokens.jwt.BearerTokenService;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,8 +20,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -42,7 +45,7 @@ class AuthenticationServiceTest {
     private BearerTokenService bearerTokenService;
 
     @Mock
-    private RoleRepository roleRepository;
+    private RoleRegistry roleRegistry;
 
     @Mock
     private HttpServletRequest httpRequest;
@@ -52,7 +55,7 @@ class AuthenticationServiceTest {
     @BeforeEach
     void setUp() {
         userCommandService = new UserCommandServiceImpl(
-                userRepository, hashingService, tokenService, roleRepository);
+                userRepository, hashingService, tokenService, roleRegistry);
     }
 
     @Test
@@ -64,8 +67,8 @@ class AuthenticationServiceTest {
         when(testUser.getPassword()).thenReturn("hashed_password");
 
         when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
-        when(hashingService.matches("password123", "hashed_password")).thenReturn(true);
-        when(tokenService.generateToken("testuser")).thenReturn("valid_token");
+        when(hashingService.matchesAsync("password123", "hashed_password")).thenReturn(CompletableFuture.completedFuture(true));
+        when(tokenService.generateToken("testuser", List.of())).thenReturn("valid_token");
 
         Optional<ImmutablePair<User, String>> result = userCommandService.handle(command);
 
@@ -73,8 +76,8 @@ class AuthenticationServiceTest {
         assertEquals(testUser, result.get().getLeft());
         assertEquals("valid_token", result.get().getRight());
         verify(userRepository).findByUsername("testuser");
-        verify(hashingService).matches("password123", "hashed_password");
-        verify(tokenService).generateToken("testuser");
+        verify(hashingService).matchesAsync("password123", "hashed_password");
+        verify(tokenService).generateToken("testuser", List.of());
     }
 
     @Test
@@ -87,8 +90,45 @@ class AuthenticationServiceTest {
 
         assertEquals("User not found", exception.getMessage());
         verify(userRepository).findByUsername("nonexistentuser");
-        verify(hashingService, never()).matches(any(), any());
-        verify(tokenService, never()).generateToken(any());
+        verify(hashingService, never()).matchesAsync(any(), any());
+        verify(tokenService, never()).generateToken(any(), any());
+    }
+
+    @Test
+    void handleSignInCommand_withHashOfOutdatedCost_shouldRehashAndSaveUser() {
+        // Arrange
+        SignInCommand command = new SignInCommand("testuser", "password123");
+        User mockUser = mock(User.class);
+        when(mockUser.getUsername()).thenReturn("testuser");
+        when(mockUser.getPassword()).thenReturn("hashed_password");
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(mockUser));
+        when(hashingService.matchesAsync("password123", "hashed_password")).thenReturn(CompletableFuture.completedFuture(true));
+        when(hashingService.needsRehash("hashed_password")).thenReturn(true);
+        when(hashingService.encodeAsync("password123")).thenReturn(CompletableFuture.completedFuture("rehashed_password"));
+        when(tokenService.generateToken("testuser", List.of())).thenReturn("valid_token");
+
+        // Act
+        var result = userCommandService.handle(command);
+
+        // Assert
+        assertTrue(result.isPresent());
+        verify(mockUser).updatePassword("rehashed_password");
+        verify(userRepository).save(mockUser);
+    }
+
+    @Test
+    void handleSignInCommand_withSaturatedHashing_shouldRejectWithoutGeneratingToken() {
+        // Arrange
+        SignInCommand command = new SignInCommand("testuser", "password123");
+        User mockUser = mock(User.class);
+        when(mockUser.getPassword()).thenReturn("hashed_password");
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(mockUser));
+        when(hashingService.matchesAsync("password123", "hashed_password"))
+                .thenReturn(CompletableFuture.failedFuture(new HashingCapacityExceededException()));
+
+        // Act & Assert
+        assertThrows(HashingCapacityExceededException.class, () -> userCommandService.handle(command));
+        verify(tokenService, never()).generateToken(any(), any());
     }
 
     @Test
@@ -100,15 +140,15 @@ class AuthenticationServiceTest {
         when(testUser.getPassword()).thenReturn("hashed_password");
 
         when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
-        when(hashingService.matches("wrong_password", "hashed_password")).thenReturn(false);
+        when(hashingService.matchesAsync("wrong_password", "hashed_password")).thenReturn(CompletableFuture.completedFuture(false));
 
         Exception exception = assertThrows(RuntimeException.class,
                 () -> userCommandService.handle(command));
 
         assertEquals("Invalid password", exception.getMessage());
         verify(userRepository).findByUsername("testuser");
-        verify(hashingService).matches("wrong_password", "hashed_password");
-        verify(tokenService, never()).generateToken(any());
+        verify(hashingService).matchesAsync("wrong_password", "hashed_password");
+        verify(tokenService, never()).generateToken(any(), any());
     }
 
     @Test
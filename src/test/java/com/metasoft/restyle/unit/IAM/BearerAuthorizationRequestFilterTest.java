@@ -0,0 +1,154 @@
+package com.metasoft.restyle.unit.IAM;
+
+import com.metasoft.restyle.platform.iam.infrastructure.authorization.sfs.events.AuthenticationEventLogger;
+import com.metasoft.restyle.platform.iam.infrastructure.authorization.sfs.model.UserDetailsImpl;
+import com.metasoft.restyle.platform.iam.infrastructure.authorization.sfs.pipeline.BearerAuthorizationRequestFilter;
+import com.metasoft.restyle.platform.iam.infrastructure.tokens.jwt.BearerTokenService;
+import com.metasoft.restyle.platform.iam.infrastructure.tokens.jwt.model.TokenVerificationFailure;
+import com.metasoft.restyle.platform.iam.infrastructure.tokens.jwt.model.TokenVerificationResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BearerAuthorizationRequestFilterTest {
+
+    @Mock
+    private BearerTokenService tokenService;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AuthenticationEventLogger authenticationEventLogger;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        authenticationEventLogger = new AuthenticationEventLogger(meterRegistry, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void statelessMode_shouldAuthenticateFromTokenRolesWithoutLoadingUser() throws Exception {
+        // Arrange
+        var filter = new BearerAuthorizationRequestFilter(tokenService, userDetailsService, authenticationEventLogger, true, Duration.ZERO);
+        var request = new MockHttpServletRequest();
+        when(tokenService.getBearerTokenFrom(request)).thenReturn("token");
+        when(tokenService.verifyToken("token")).thenReturn(TokenVerificationResult.valid("testuser", new Date(), List.of("ROLE_ADMIN")));
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        assertEquals("testuser", authentication.getName());
+        assertEquals(List.of("ROLE_ADMIN"), authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        verify(userDetailsService, never()).loadUserByUsername(any());
+    }
+
+    @Test
+    void statelessMode_withTokenWithoutRoles_shouldLoadUser() throws Exception {
+        var filter = new BearerAuthorizationRequestFilter(tokenService, userDetailsService, authenticationEventLogger, true, Duration.ZERO);
+        var request = new MockHttpServletRequest();
+        when(tokenService.getBearerTokenFrom(request)).thenReturn("token");
+        when(tokenService.verifyToken("token")).thenReturn(TokenVerificationResult.valid("testuser", new Date(), null));
+        when(userDetailsService.loadUserByUsername("testuser")).thenReturn(new UserDetailsImpl("testuser", "hashed_password", List.of()));
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(userDetailsService).loadUserByUsername("testuser");
+    }
+
+    @Test
+    void statelessMode_withRevocationCheck_shouldLoadUserOncePerInterval() throws Exception {
+        // Arrange
+        var filter = new BearerAuthorizationRequestFilter(tokenService, userDetailsService, authenticationEventLogger, true, Duration.ofMinutes(1));
+        var request = new MockHttpServletRequest();
+        when(tokenService.getBearerTokenFrom(request)).thenReturn("token");
+        when(tokenService.verifyToken("token")).thenReturn(TokenVerificationResult.valid("testuser", new Date(), List.of("ROLE_ADMIN")));
+        when(userDetailsService.loadUserByUsername("testuser"))
+                .thenReturn(new UserDetailsImpl("testuser", "hashed_password", List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(userDetailsService, times(1)).loadUserByUsername("testuser");
+    }
+
+    @Test
+    void statelessMode_withRevokedRole_shouldNotAuthenticate() throws Exception {
+        var filter = new BearerAuthorizationRequestFilter(tokenService, userDetailsService, authenticationEventLogger, true, Duration.ofMinutes(1));
+        var request = new MockHttpServletRequest();
+        when(tokenService.getBearerTokenFrom(request)).thenReturn("token");
+        when(tokenService.verifyToken("token")).thenReturn(TokenVerificationResult.valid("testuser", new Date(), List.of("ROLE_ADMIN")));
+        when(userDetailsService.loadUserByUsername("testuser"))
+                .thenReturn(new UserDetailsImpl("testuser", "hashed_password", List.of(new SimpleGrantedAuthority("ROLE_CONTRACTOR"))));
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(1.0, outcomeCount("REVOKED"));
+    }
+
+    @Test
+    void rejectedTokens_shouldBeCountedByFailureType() throws Exception {
+        // Arrange
+        var filter = new BearerAuthorizationRequestFilter(tokenService, userDetailsService, authenticationEventLogger);
+        var request = new MockHttpServletRequest();
+        when(tokenService.getBearerTokenFrom(request)).thenReturn("token");
+        when(tokenService.verifyToken("token")).thenReturn(TokenVerificationResult.invalid(TokenVerificationFailure.EXPIRED));
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(2.0, outcomeCount("EXPIRED"));
+        assertEquals(0.0, outcomeCount("AUTHENTICATED"));
+    }
+
+    @Test
+    void requestWithoutToken_shouldBeCountedAsAnonymous() throws Exception {
+        var filter = new BearerAuthorizationRequestFilter(tokenService, userDetailsService, authenticationEventLogger);
+
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertEquals(1.0, outcomeCount("ANONYMOUS"));
+        verify(tokenService, never()).verifyToken(any());
+    }
+
+    private double outcomeCount(String outcome) {
+        return meterRegistry.get("iam.authentication.outcomes").tag("outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,76 @@
+package com.metasoft.restyle.unit.IAM;
+
+import com.metasoft.restyle.platform.iam.domain.model.events.UserUpdatedEvent;
+import com.metasoft.restyle.platform.iam.infrastructure.authorization.sfs.model.UserDetailsImpl;
+import com.metasoft.restyle.platform.iam.infrastructure.authorization.sfs.services.CachingUserDetailsService;
+import com.metasoft.restyle.platform.iam.infrastructure.authorization.sfs.services.UserDetailsCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingUserDetailsServiceTest {
+
+    @Mock
+    private UserDetailsService delegate;
+
+    private UserDetailsCache userDetailsCache;
+
+    private CachingUserDetailsService cachingUserDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsCache = new UserDetailsCache(true, 100, 5, new SimpleMeterRegistry());
+        cachingUserDetailsService = new CachingUserDetailsService(delegate, userDetailsCache);
+    }
+
+    @Test
+    void loadUserByUsername_calledTwice_shouldHitDelegateOnce() {
+        // Arrange
+        var userDetails = new UserDetailsImpl("testuser", "hashed_password", List.of());
+        when(delegate.loadUserByUsername("testuser")).thenReturn(userDetails);
+
+        // Act
+        var first = cachingUserDetailsService.loadUserByUsername("testuser");
+        var second = cachingUserDetailsService.loadUserByUsername("testuser");
+
+        // Assert
+        assertSame(userDetails, first);
+        assertSame(userDetails, second);
+        verify(delegate, times(1)).loadUserByUsername("testuser");
+    }
+
+    @Test
+    void loadUserByUsername_afterUserUpdated_shouldReloadFromDelegate() {
+        // Arrange
+        when(delegate.loadUserByUsername("testuser"))
+                .thenReturn(new UserDetailsImpl("testuser", "hashed_password", List.of()));
+        cachingUserDetailsService.loadUserByUsername("testuser");
+
+        // Act
+        userDetailsCache.on(new UserUpdatedEvent("testuser"));
+        cachingUserDetailsService.loadUserByUsername("testuser");
+
+        // Assert
+        verify(delegate, times(2)).loadUserByUsername("testuser");
+    }
+
+    @Test
+    void loadUserByUsername_withUnknownUser_shouldNotCacheTheFailure() {
+        when(delegate.loadUserByUsername("unknown")).thenThrow(new UsernameNotFoundException("User not found"));
+
+        assertThrows(UsernameNotFoundException.class, () -> cachingUserDetailsService.loadUserByUsername("unknown"));
+        assertThrows(UsernameNotFoundException.class, () -> cachingUserDetailsService.loadUserByUsername("unknown"));
+        verify(delegate, times(2)).loadUserByUsername("unknown");
+    }
+}
@@ -0,0 +1,82 @@
+package com.metasoft.restyle.unit.IAM;
+
+import com.metasoft.restyle.platform.iam.application.internal.outboundservices.hashing.HashingCapacityExceededException;
+import com.metasoft.restyle.platform.iam.infrastructure.hashing.bcrypt.services.HashingServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashingServiceImplTest {
+
+    private HashingServiceImpl hashingService;
+
+    @AfterEach
+    void tearDown() {
+        hashingService.destroy();
+    }
+
+    @Test
+    void encodeAsync_shouldProduceHashMatchedByMatchesAsync() {
+        // Arrange
+        hashingService = new HashingServiceImpl(4, 0, 1, 4, new SimpleMeterRegistry());
+
+        // Act
+        String encoded = hashingService.encodeAsync("securePassword123").join();
+
+        // Assert
+        assertTrue(hashingService.matchesAsync("securePassword123", encoded).join());
+        assertFalse(hashingService.matchesAsync("incorrectPassword", encoded).join());
+    }
+
+    @Test
+    void encodeAsync_whenQueueIsFull_shouldFailFastWithCapacityExceeded() {
+        // Arrange
+        var meterRegistry = new SimpleMeterRegistry();
+        hashingService = new HashingServiceImpl(10, 0, 1, 1, meterRegistry);
+
+        // Act
+        CompletableFuture<String> running = hashingService.encodeAsync("first");
+        CompletableFuture<String> queued = hashingService.encodeAsync("second");
+        CompletableFuture<String> rejected = hashingService.encodeAsync("third");
+
+        // Assert
+        var exception = assertThrows(CompletionException.class, rejected::join);
+        assertInstanceOf(HashingCapacityExceededException.class, exception.getCause());
+        assertNotNull(running.join());
+        assertNotNull(queued.join());
+        assertEquals(1.0, meterRegistry.get("iam.hashing.rejections").counter().count());
+    }
+
+    @Test
+    void needsRehash_shouldReportHashesWithALowerCost() {
+        // Arrange
+        hashingService = new HashingServiceImpl(5, 0, 1, 4, new SimpleMeterRegistry());
+        var lowerCost = new HashingServiceImpl(4, 0, 1, 4, new SimpleMeterRegistry());
+        var higherCost = new HashingServiceImpl(6, 0, 1, 4, new SimpleMeterRegistry());
+
+        // Act
+        String current = hashingService.encode("securePassword123");
+        String outdated = lowerCost.encode("securePassword123");
+        String stronger = higherCost.encode("securePassword123");
+        lowerCost.destroy();
+        higherCost.destroy();
+
+        // Assert
+        assertFalse(hashingService.needsRehash(current));
+        assertTrue(hashingService.needsRehash(outdated));
+        assertFalse(hashingService.needsRehash(stronger));
+        assertFalse(hashingService.needsRehash("not-a-bcrypt-hash"));
+    }
+
+    @Test
+    void strengthZero_shouldCalibrateToAtLeastTheDefaultCost() {
+        hashingService = new HashingServiceImpl(0, 1, 1, 4, new SimpleMeterRegistry());
+
+        assertEquals(10, hashingService.getStrength());
+    }
+}
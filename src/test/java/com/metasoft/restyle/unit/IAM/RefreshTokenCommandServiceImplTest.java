@@ -0,0 +1,131 @@
+package com.metasoft.restyle.unit.IAM;
+
+import com.metasoft.restyle.platform.iam.application.internal.commandservices.RefreshTokenCommandServiceImpl;
+import com.metasoft.restyle.platform.iam.application.internal.outboundservices.tokens.TokenService;
+import com.metasoft.restyle.platform.iam.domain.model.aggregates.RefreshToken;
+import com.metasoft.restyle.platform.iam.domain.model.aggregates.User;
+import com.metasoft.restyle.platform.iam.domain.model.commands.IssueRefreshTokenCommand;
+import com.metasoft.restyle.platform.iam.domain.model.commands.PurgeRefreshTokensCommand;
+import com.metasoft.restyle.platform.iam.domain.model.commands.RefreshAccessTokenCommand;
+import com.metasoft.restyle.platform.iam.domain.model.commands.RevokeRefreshTokenCommand;
+import com.metasoft.restyle.platform.iam.infrastructure.persistence.jpa.repositories.RefreshTokenRepository;
+import com.metasoft.restyle.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenCommandServiceImplTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TokenService tokenService;
+
+    private RefreshTokenCommandServiceImpl refreshTokenCommandService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenCommandService = new RefreshTokenCommandServiceImpl(refreshTokenRepository, userRepository, tokenService, 30);
+    }
+
+    @Test
+    void handleIssue_shouldStoreOnlyTheDigestOfTheToken() {
+        // Arrange
+        var user = mock(User.class);
+        when(userRepository.getReferenceById(1L)).thenReturn(user);
+
+        // Act
+        String rawToken = refreshTokenCommandService.handle(new IssueRefreshTokenCommand(1L));
+
+        // Assert
+        var captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        assertNotNull(rawToken);
+        assertEquals(64, captor.getValue().getTokenHash().length());
+        assertNotEquals(rawToken, captor.getValue().getTokenHash());
+        assertSame(user, captor.getValue().getUser());
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    void handleRefresh_withActiveToken_shouldRotateItAndSignANewAccessToken() {
+        // Arrange
+        var user = mock(User.class);
+        when(user.getUsername()).thenReturn("testuser");
+        when(user.getRoles()).thenReturn(Set.of());
+        when(userRepository.getReferenceById(1L)).thenReturn(user);
+        String rawToken = refreshTokenCommandService.handle(new IssueRefreshTokenCommand(1L));
+        var captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        var stored = captor.getValue();
+        when(refreshTokenRepository.revokeActive(eq(stored.getTokenHash()), any(Date.class))).thenReturn(1);
+        when(refreshTokenRepository.findByTokenHash(stored.getTokenHash())).thenReturn(Optional.of(stored));
+        when(tokenService.generateToken("testuser", List.of())).thenReturn("access_token");
+
+        // Act
+        var result = refreshTokenCommandService.handle(new RefreshAccessTokenCommand(rawToken));
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertSame(user, result.get().getLeft());
+        assertEquals("access_token", result.get().getRight().accessToken());
+        assertNotEquals(rawToken, result.get().getRight().refreshToken());
+        verify(refreshTokenRepository).revokeActive(eq(stored.getTokenHash()), any(Date.class));
+    }
+
+    @Test
+    void handleRefresh_whenTokenIsNoLongerActive_shouldReturnEmpty() {
+        // Arrange
+        when(refreshTokenRepository.revokeActive(any(), any(Date.class))).thenReturn(0);
+
+        // Act
+        var result = refreshTokenCommandService.handle(new RefreshAccessTokenCommand("already_rotated"));
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(refreshTokenRepository, never()).findByTokenHash(any());
+        verify(refreshTokenRepository, never()).save(any());
+        verify(tokenService, never()).generateToken(any(), any());
+    }
+
+    @Test
+    void handleRefresh_withBlankToken_shouldReturnEmpty() {
+        assertTrue(refreshTokenCommandService.handle(new RefreshAccessTokenCommand(" ")).isEmpty());
+        verifyNoInteractions(refreshTokenRepository);
+    }
+
+    @Test
+    void handleRevoke_shouldRevokeTheStoredTokenByDigest() {
+        refreshTokenCommandService.handle(new RevokeRefreshTokenCommand("raw"));
+
+        var captor = ArgumentCaptor.forClass(String.class);
+        verify(refreshTokenRepository).revokeActive(captor.capture(), any(Date.class));
+        assertEquals(64, captor.getValue().length());
+        assertNotEquals("raw", captor.getValue());
+    }
+
+    @Test
+    void handlePurge_shouldDeleteRevokedAndExpiredTokens() {
+        when(refreshTokenRepository.deleteRevokedOrExpired(any(Date.class))).thenReturn(3);
+
+        assertEquals(3, refreshTokenCommandService.handle(new PurgeRefreshTokensCommand()));
+    }
+}
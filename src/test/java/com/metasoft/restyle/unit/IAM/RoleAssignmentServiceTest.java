@@ -7,7 +7,7 @@ import com.metasoft.restyle.platform.iam.application.internal.commandservices.Us
 import com.metasoft.restyle.platform.iam.application.internal.outboundservices.hashing.HashingService;
 import com.metasoft.restyle.platform.iam.application.internal.outboundservices.tokens.TokenService;
 import com.metasoft.restyle.platform.iam.domain.model.commands.SignUpCommand;
-import com.metasoft.restyle.platform.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
+import com.metasoft.restyle.platform.iam.application.internal.registries.RoleRegistry;
 import com.metasoft.restyle.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -29,7 +30,7 @@ import static org.mockito.Mockito.*;
 class RoleAssignmentServiceTest {
 
     @Mock
-    private RoleRepository roleRepository;
+    private RoleRegistry roleRegistry;
 
     @Mock
     private UserRepository userRepository;
@@ -47,7 +48,7 @@ class RoleAssignmentServiceTest {
     @BeforeEach
     void setUp() {
         userCommandService = new UserCommandServiceImpl(
-                userRepository, hashingService, tokenService, roleRepository);
+                userRepository, hashingService, tokenService, roleRegistry);
 
         testUser = new User(
                 "testuser",
@@ -92,23 +93,56 @@ class RoleAssignmentServiceTest {
     }
 
     @Test
-    void shouldAssignDefaultRoleWhenNullRoleIsProvided() {
-        // Act
-        User result = testUser.addRole(null);
+    void shouldRejectNullRole() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> testUser.addRole(null));
+        assertTrue(testUser.getRoles().isEmpty());
+    }
 
-        // Assert
-        assertEquals(1, result.getRoles().size());
-        assertEquals(Roles.ROLE_CONTRACTOR, result.getRoles().iterator().next().getName());
+    @Test
+    void shouldRejectRoleThatHasNotBeenStored() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> testUser.addRole(new Role(Roles.ROLE_CONTRACTOR)));
+        assertThrows(IllegalArgumentException.class, () -> testUser.addRoles(List.of(new Role(1L, Roles.ROLE_ADMIN), new Role(Roles.ROLE_CONTRACTOR))));
+        assertTrue(testUser.getRoles().isEmpty());
     }
 
     @Test
-    void shouldAssignDefaultRoleWhenEmptyRoleListIsProvided() {
+    void shouldRejectEmptyRoleList() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> testUser.addRoles(new ArrayList<>()));
+        assertTrue(testUser.getRoles().isEmpty());
+    }
+
+    @Test
+    void shouldCreateUserWithDefaultRoleFromRegistryWhenNoRolesAreGiven() {
+        // Arrange
+        Role contractorRole = new Role(3L, Roles.ROLE_CONTRACTOR);
+        when(roleRegistry.getDefaultRole()).thenReturn(contractorRole);
+        when(hashingService.encodeAsync(any())).thenReturn(CompletableFuture.completedFuture("hashed_password"));
+        when(userRepository.existsByUsername("newuser")).thenReturn(false);
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        SignUpCommand command = new SignUpCommand(
+                "newuser",
+                "password",
+                List.of(),
+                "user@example.com",
+                "New",
+                "User",
+                "Test",
+                "Description",
+                "123456789",
+                "image.jpg"
+        );
+
         // Act
-        User result = testUser.addRoles(new ArrayList<>());
+        Optional<User> result = userCommandService.handle(command);
 
         // Assert
-        assertEquals(1, result.getRoles().size());
-        assertEquals(Roles.ROLE_CONTRACTOR, result.getRoles().iterator().next().getName());
+        assertTrue(result.isPresent());
+        assertEquals(Set.of(contractorRole), result.get().getRoles());
+        verify(roleRegistry, never()).findByName(any());
     }
 
     @Test
@@ -117,10 +151,10 @@ class RoleAssignmentServiceTest {
         Role adminRole = new Role(1L, Roles.ROLE_ADMIN);
         Role remodelerRole = new Role(2L, Roles.ROLE_REMODELER);
 
-        when(roleRepository.findByName(Roles.ROLE_ADMIN)).thenReturn(Optional.of(adminRole));
-        when(roleRepository.findByName(Roles.ROLE_REMODELER)).thenReturn(Optional.of(remodelerRole));
+        when(roleRegistry.findByName(Roles.ROLE_ADMIN)).thenReturn(Optional.of(adminRole));
+        when(roleRegistry.findByName(Roles.ROLE_REMODELER)).thenReturn(Optional.of(remodelerRole));
 
-        when(hashingService.encode(any())).thenReturn("hashed_password");
+        when(hashingService.encodeAsync(any())).thenReturn(CompletableFuture.completedFuture("hashed_password"));
 
         User savedUser = new User(
                 "newuser",
@@ -136,7 +170,6 @@ class RoleAssignmentServiceTest {
         savedUser.addRoles(Arrays.asList(adminRole, remodelerRole));
 
         when(userRepository.save(any(User.class))).thenReturn(savedUser);
-        when(userRepository.findByUsername("newuser")).thenReturn(Optional.of(savedUser));
         when(userRepository.existsByUsername("newuser")).thenReturn(false);
 
         SignUpCommand command = new SignUpCommand(
@@ -173,7 +206,7 @@ class RoleAssignmentServiceTest {
     @Test
     void shouldThrowExceptionWhenRoleNotFound() {
         // Arrange
-        when(roleRepository.findByName(Roles.ROLE_ADMIN)).thenReturn(Optional.empty());
+        when(roleRegistry.findByName(Roles.ROLE_ADMIN)).thenReturn(Optional.empty());
         when(userRepository.existsByUsername("newuser")).thenReturn(false);
 
         SignUpCommand command = new SignUpCommand(
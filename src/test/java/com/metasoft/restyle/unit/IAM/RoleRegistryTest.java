@@ -0,0 +1,75 @@
+package com.metasoft.restyle.unit.IAM;
+
+import com.metasoft.restyle.platform.iam.application.internal.registries.RoleRegistry;
+import com.metasoft.restyle.platform.iam.domain.model.entities.Role;
+import com.metasoft.restyle.platform.iam.domain.model.valueobjects.Roles;
+import com.metasoft.restyle.platform.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoleRegistryTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    private RoleRegistry roleRegistry;
+
+    @BeforeEach
+    void setUp() {
+        roleRegistry = new RoleRegistry(roleRepository);
+    }
+
+    @Test
+    void findByName_afterLoad_shouldServeRolesWithoutQueries() {
+        // Arrange
+        var contractor = new Role(3L, Roles.ROLE_CONTRACTOR);
+        when(roleRepository.findAll()).thenReturn(List.of(contractor, new Role(1L, Roles.ROLE_ADMIN), new Role(2L, Roles.ROLE_REMODELER)));
+        roleRegistry.load();
+
+        // Act
+        var first = roleRegistry.findByName(Roles.ROLE_CONTRACTOR);
+        var second = roleRegistry.findByName(Roles.ROLE_CONTRACTOR);
+        var all = roleRegistry.findAll();
+
+        // Assert
+        assertSame(contractor, first.orElseThrow());
+        assertSame(contractor, second.orElseThrow());
+        assertEquals(List.of(Roles.ROLE_ADMIN, Roles.ROLE_REMODELER, Roles.ROLE_CONTRACTOR), all.stream().map(Role::getName).toList());
+        verify(roleRepository, times(1)).findAll();
+    }
+
+    @Test
+    void findByName_beforeLoad_shouldLoadOnce() {
+        when(roleRepository.findAll()).thenReturn(List.of(new Role(1L, Roles.ROLE_ADMIN), new Role(2L, Roles.ROLE_REMODELER), new Role(3L, Roles.ROLE_CONTRACTOR)));
+
+        roleRegistry.findByName(Roles.ROLE_ADMIN);
+        roleRegistry.findByName(Roles.ROLE_REMODELER);
+
+        verify(roleRepository, times(1)).findAll();
+    }
+
+    @Test
+    void load_withUnseededRole_shouldThrow() {
+        when(roleRepository.findAll()).thenReturn(List.of(new Role(1L, Roles.ROLE_ADMIN)));
+
+        assertThrows(IllegalStateException.class, () -> roleRegistry.load());
+    }
+
+    @Test
+    void findAll_shouldReturnImmutableList() {
+        when(roleRepository.findAll()).thenReturn(List.of(new Role(1L, Roles.ROLE_ADMIN), new Role(2L, Roles.ROLE_REMODELER), new Role(3L, Roles.ROLE_CONTRACTOR)));
+
+        var roles = roleRegistry.findAll();
+
+        assertThrows(UnsupportedOperationException.class, () -> roles.add(new Role(4L, Roles.ROLE_CONTRACTOR)));
+    }
+}
@@ -0,0 +1,115 @@
+package com.metasoft.restyle.unit.IAM;
+
+import com.metasoft.restyle.platform.iam.infrastructure.throttling.SignInRateLimiter;
+import com.metasoft.restyle.platform.iam.infrastructure.throttling.SlidingWindowCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SignInRateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SignInRateLimiter signInRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        signInRateLimiter = new SignInRateLimiter(true, 3, 60, 2, 900, meterRegistry);
+    }
+
+    @Test
+    void tryAcquire_overAddressLimit_shouldBlockTheAddressOnly() {
+        // Act
+        for (int i = 0; i < 3; i++) assertTrue(signInRateLimiter.tryAcquire("user" + i, "10.0.0.1").allowed());
+
+        // Assert
+        assertFalse(signInRateLimiter.tryAcquire("user4", "10.0.0.1").allowed());
+        assertTrue(signInRateLimiter.tryAcquire("user4", "10.0.0.2").allowed());
+        assertEquals(1.0, meterRegistry.get("iam.sign-in.blocked").tag("reason", "address").counter().count());
+    }
+
+    @Test
+    void tryAcquire_afterTooManyFailures_shouldBlockTheUsernameFromAnyAddress() {
+        // Arrange
+        signInRateLimiter.recordFailure("testuser");
+        signInRateLimiter.recordFailure("testuser");
+
+        // Act
+        var attempt = signInRateLimiter.tryAcquire("testuser", "10.0.0.9");
+
+        // Assert
+        assertFalse(attempt.allowed());
+        assertTrue(signInRateLimiter.tryAcquire("otheruser", "10.0.0.9").allowed());
+        assertEquals(1.0, meterRegistry.get("iam.sign-in.blocked").tag("reason", "username").counter().count());
+    }
+
+    @Test
+    void tryAcquire_blockedByAddress_shouldAskToRetryWithinTheAddressWindow() {
+        for (int i = 0; i < 3; i++) signInRateLimiter.tryAcquire("user" + i, "10.0.0.1");
+
+        var attempt = signInRateLimiter.tryAcquire("user4", "10.0.0.1");
+
+        assertFalse(attempt.allowed());
+        assertTrue(attempt.retryAfterSeconds() >= 1 && attempt.retryAfterSeconds() <= 60, "retry after " + attempt.retryAfterSeconds());
+    }
+
+    @Test
+    void tryAcquire_blockedByUsername_shouldAskToRetryWithinTheUsernameWindow() {
+        signInRateLimiter.recordFailure("testuser");
+        signInRateLimiter.recordFailure("testuser");
+
+        var attempt = signInRateLimiter.tryAcquire("testuser", "10.0.0.9");
+
+        assertFalse(attempt.allowed());
+        assertTrue(attempt.retryAfterSeconds() > 60 && attempt.retryAfterSeconds() <= 900, "retry after " + attempt.retryAfterSeconds());
+    }
+
+    @Test
+    void recordSuccess_shouldClearFailuresOfTheUsername() {
+        signInRateLimiter.recordFailure("testuser");
+        signInRateLimiter.recordSuccess("testuser");
+        signInRateLimiter.recordFailure("testuser");
+
+        assertTrue(signInRateLimiter.tryAcquire("testuser", "10.0.0.1").allowed());
+    }
+
+    @Test
+    void disabledLimiter_shouldAllowEveryAttempt() {
+        var disabled = new SignInRateLimiter(false, 0, 60, 0, 900, new SimpleMeterRegistry());
+
+        assertTrue(disabled.tryAcquire("testuser", "10.0.0.1").allowed());
+    }
+
+    @Test
+    void slidingWindowCounter_shouldForgetEventsOlderThanTheWindow() {
+        // Arrange
+        var window = TimeUnit.SECONDS.toNanos(10);
+        var counter = new SlidingWindowCounter(window);
+
+        // Act
+        counter.increment(0);
+        counter.increment(TimeUnit.SECONDS.toNanos(5));
+
+        // Assert
+        assertEquals(2, counter.sum(TimeUnit.SECONDS.toNanos(9)));
+        assertEquals(1, counter.sum(TimeUnit.SECONDS.toNanos(12)));
+        assertEquals(0, counter.sum(TimeUnit.SECONDS.toNanos(20)));
+    }
+
+    @Test
+    void slidingWindowCounter_shouldReportWhenTheOldestEventLeavesTheWindow() {
+        var counter = new SlidingWindowCounter(TimeUnit.SECONDS.toNanos(10));
+
+        counter.increment(TimeUnit.SECONDS.toNanos(3));
+        counter.increment(TimeUnit.SECONDS.toNanos(5));
+
+        assertEquals(TimeUnit.SECONDS.toNanos(7), counter.nanosUntilOldestExpires(TimeUnit.SECONDS.toNanos(6)));
+        assertEquals(TimeUnit.SECONDS.toNanos(1), counter.nanosUntilOldestExpires(TimeUnit.SECONDS.toNanos(14)));
+        assertEquals(0, counter.nanosUntilOldestExpires(TimeUnit.SECONDS.toNanos(30)));
+    }
+}
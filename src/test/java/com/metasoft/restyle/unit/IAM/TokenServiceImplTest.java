@@ -0,0 +1,136 @@
+package com.metasoft.restyle.unit.IAM;
+
+import com.metasoft.restyle.platform.iam.infrastructure.tokens.jwt.cache.VerifiedTokenCache;
+import com.metasoft.restyle.platform.iam.infrastructure.tokens.jwt.model.TokenVerificationFailure;
+import com.metasoft.restyle.platform.iam.infrastructure.tokens.jwt.services.TokenServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenServiceImplTest {
+
+    private static final String SECRET = "unit-test-secret-unit-test-secret-unit-test-secret-0123456789";
+
+    private TokenServiceImpl tokenService;
+
+    @BeforeEach
+    void setUp() {
+        tokenService = new TokenServiceImpl(SECRET, 7, 0, disabledCache());
+    }
+
+    @Test
+    void verifyToken_withValidToken_shouldReturnSubjectAndExpiration() {
+        // Arrange
+        String token = tokenService.generateToken("testuser");
+
+        // Act
+        var result = tokenService.verifyToken(token);
+
+        // Assert
+        assertTrue(result.isValid());
+        assertEquals("testuser", result.subject());
+        assertNotNull(result.expiration());
+        assertNull(result.failure());
+    }
+
+    @Test
+    void verifyToken_withRolesEmbedded_shouldReturnRoles() {
+        String token = tokenService.generateToken("testuser", List.of("ROLE_ADMIN", "ROLE_CONTRACTOR"));
+
+        var result = tokenService.verifyToken(token);
+
+        assertTrue(result.isValid());
+        assertEquals(List.of("ROLE_ADMIN", "ROLE_CONTRACTOR"), result.roles());
+    }
+
+    @Test
+    void verifyToken_withoutRolesEmbedded_shouldReturnNullRoles() {
+        var result = tokenService.verifyToken(tokenService.generateToken("testuser"));
+
+        assertTrue(result.isValid());
+        assertNull(result.roles());
+    }
+
+    @Test
+    void verifyToken_withExpiredToken_shouldReturnExpiredFailure() {
+        // Arrange
+        var expiredTokenService = new TokenServiceImpl(SECRET, -1, 0, disabledCache());
+        String token = expiredTokenService.generateToken("testuser");
+
+        // Act
+        var result = tokenService.verifyToken(token);
+
+        // Assert
+        assertFalse(result.isValid());
+        assertEquals(TokenVerificationFailure.EXPIRED, result.failure());
+        assertNull(result.subject());
+    }
+
+    @Test
+    void verifyToken_withTokenSignedByAnotherKey_shouldReturnInvalidSignature() {
+        // Arrange
+        var otherTokenService = new TokenServiceImpl("another-secret-another-secret-another-secret-0123456789", 7, 0, disabledCache());
+        String token = otherTokenService.generateToken("testuser");
+
+        // Act
+        var result = tokenService.verifyToken(token);
+
+        // Assert
+        assertFalse(result.isValid());
+        assertEquals(TokenVerificationFailure.INVALID_SIGNATURE, result.failure());
+    }
+
+    @Test
+    void verifyToken_withMalformedToken_shouldReturnMalformedFailure() {
+        var result = tokenService.verifyToken("not-a-jwt");
+
+        assertFalse(result.isValid());
+        assertEquals(TokenVerificationFailure.MALFORMED, result.failure());
+    }
+
+    @Test
+    void validateToken_shouldAgreeWithVerifyToken() {
+        String token = tokenService.generateToken("testuser");
+        String foreignToken = new TokenServiceImpl("another-secret-another-secret-another-secret-0123456789", 7, 0, disabledCache()).generateToken("testuser");
+
+        assertTrue(tokenService.validateToken(token));
+        assertFalse(tokenService.validateToken(foreignToken));
+    }
+
+    @Test
+    void verifyToken_withCacheEnabled_shouldServeRepeatedTokensFromCache() {
+        // Arrange
+        var meterRegistry = new SimpleMeterRegistry();
+        var cachingTokenService = new TokenServiceImpl(SECRET, 7, 0, new VerifiedTokenCache(true, 100, 30, meterRegistry));
+        String token = cachingTokenService.generateToken("testuser");
+
+        // Act
+        var first = cachingTokenService.verifyToken(token);
+        var second = cachingTokenService.verifyToken(token);
+
+        // Assert
+        assertTrue(first.isValid());
+        assertTrue(second.isValid());
+        assertEquals("testuser", second.subject());
+        assertEquals(first.expiration(), second.expiration());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void verifyToken_withCacheEnabled_shouldNotCacheInvalidTokens() {
+        var cachingTokenService = new TokenServiceImpl(SECRET, 7, 0, new VerifiedTokenCache(true, 100, 30, new SimpleMeterRegistry()));
+        String foreignToken = new TokenServiceImpl("another-secret-another-secret-another-secret-0123456789", 7, 0, disabledCache()).generateToken("testuser");
+
+        assertFalse(cachingTokenService.verifyToken(foreignToken).isValid());
+        assertFalse(cachingTokenService.verifyToken(foreignToken).isValid());
+    }
+
+    private static VerifiedTokenCache disabledCache() {
+        return new VerifiedTokenCache(false, 0, 0, new SimpleMeterRegistry());
+    }
+}
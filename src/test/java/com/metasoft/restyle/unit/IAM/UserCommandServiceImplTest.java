@@ -9,7 +9,7 @@ import com.metasoft.restyle.platform.iam.domain.model.commands.SignUpCommand;
 import com.metasoft.restyle.platform.iam.domain.model.commands.UpdateUserCommand;
 import com.metasoft.restyle.platform.iam.domain.model.entities.Role;
 import com.metasoft.restyle.platform.iam.domain.model.valueobjects.Roles;
-import com.metasoft.restyle.platform.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
+import com.metasoft.restyle.platform.iam.application.internal.registries.RoleRegistry;
 import com.metasoft.restyle.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +20,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -38,14 +39,14 @@ class UserCommandServiceImplTest {
     private TokenService tokenService;
 
     @Mock
-    private RoleRepository roleRepository;
+    private RoleRegistry roleRegistry;
 
     private UserCommandServiceImpl userCommandService;
 
     @BeforeEach
     void setUp() {
         userCommandService = new UserCommandServiceImpl(
-                userRepository, hashingService, tokenService, roleRepository);
+                userRepository, hashingService, tokenService, roleRegistry);
     }
 
     /*
@@ -65,8 +66,8 @@ class UserCommandServiceImplTest {
         when(savedUser.getUsername()).thenReturn("testuser");
 
         when(userRepository.existsByUsername("testuser")).thenReturn(false);
-        when(hashingService.encode("password")).thenReturn("hashed_password");
-        when(roleRepository.findByName(Roles.ROLE_CONTRACTOR)).thenReturn(Optional.of(role));
+        when(hashingService.encodeAsync("password")).thenReturn(CompletableFuture.completedFuture("hashed_password"));
+        when(roleRegistry.findByName(Roles.ROLE_CONTRACTOR)).thenReturn(Optional.of(role));
         when(userRepository.save(any(User.class))).thenReturn(savedUser);
         when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(savedUser));
 
@@ -159,7 +160,7 @@ class UserCommandServiceImplTest {
         when(user.getPassword()).thenReturn("hashed_password");
 
         when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
-        when(hashingService.matches("password", "hashed_password")).thenReturn(true);
+        when(hashingService.matchesAsync("password", "hashed_password")).thenReturn(CompletableFuture.completedFuture(true));
         when(tokenService.generateToken("testuser")).thenReturn("jwt_token");
 
         // Act
@@ -193,7 +194,7 @@ class UserCommandServiceImplTest {
         when(user.getPassword()).thenReturn("hashed_password");
 
         when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
-        when(hashingService.matches("wrongpassword", "hashed_password")).thenReturn(false);
+        when(hashingService.matchesAsync("wrongpassword", "hashed_password")).thenReturn(CompletableFuture.completedFuture(false));
 
         // Act & Assert
         assertThrows(RuntimeException.class, () -> userCommandService.handle(command));
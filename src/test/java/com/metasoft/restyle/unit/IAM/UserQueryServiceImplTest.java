@@ -39,7 +39,7 @@ class UserQueryServiceImplTest {
         User user2 = mock(User.class);
         List<User> expectedUsers = List.of(user1, user2);
 
-        when(userRepository.findAll()).thenReturn(expectedUsers);
+        when(userRepository.findAllWithRoles()).thenReturn(expectedUsers);
 
         // Act
         List<User> result = userQueryService.handle(new GetAllUsersQuery());
@@ -47,7 +47,7 @@ class UserQueryServiceImplTest {
         // Assert
         assertEquals(2, result.size());
         assertEquals(expectedUsers, result);
-        verify(userRepository).findAll();
+        verify(userRepository).findAllWithRoles();
     }
 */
     /*
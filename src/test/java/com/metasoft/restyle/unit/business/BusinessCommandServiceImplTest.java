@@ -4,12 +4,16 @@ import com.metasoft.restyle.platform.business.domain.model.aggregates.Business;
 import com.metasoft.restyle.platform.business.domain.model.commands.CreateBusinessCommand;
 import com.metasoft.restyle.platform.business.application.internal.commandservices.BusinessCommandServiceImpl;
 import com.metasoft.restyle.platform.business.infrastructure.persistance.jpa.BusinessRepository;
+import com.metasoft.restyle.platform.business.infrastructure.search.BusinessSearchIndex;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLException;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -22,11 +26,14 @@ public class BusinessCommandServiceImplTest {
     @Mock
     private BusinessRepository businessRepository;
 
+    @Mock
+    private BusinessSearchIndex businessSearchIndex;
+
     private BusinessCommandServiceImpl businessCommandService;
 
     @BeforeEach
     void setUp() {
-        businessCommandService = new BusinessCommandServiceImpl(businessRepository);
+        businessCommandService = new BusinessCommandServiceImpl(businessRepository, businessSearchIndex);
     }
 
     @Test
@@ -43,8 +50,7 @@ public class BusinessCommandServiceImplTest {
         );
 
         Business savedBusiness = new Business(command);
-        when(businessRepository.existsByName(command.name())).thenReturn(false);
-        when(businessRepository.save(any(Business.class))).thenReturn(savedBusiness);
+        when(businessRepository.saveAndFlush(any(Business.class))).thenReturn(savedBusiness);
 
         // Act
         Optional<Business> result = businessCommandService.handle(command);
@@ -52,8 +58,9 @@ public class BusinessCommandServiceImplTest {
         // Assert
         assertTrue(result.isPresent());
         assertEquals(command.name(), result.get().getName());
-        verify(businessRepository).existsByName(command.name());
-        verify(businessRepository).save(any(Business.class));
+        verify(businessRepository).saveAndFlush(any(Business.class));
+        verify(businessRepository, never()).existsByName(any());
+        verify(businessSearchIndex).index(savedBusiness);
     }
 
     @Test
@@ -69,15 +76,37 @@ public class BusinessCommandServiceImplTest {
                 1
         );
 
-        when(businessRepository.existsByName(command.name())).thenReturn(true);
+        when(businessRepository.saveAndFlush(any(Business.class))).thenThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("Duplicate entry", new SQLException(), "businesses." + Business.NAME_UNIQUE_CONSTRAINT)));
 
         // Act & Assert
-        assertThrows(IllegalArgumentException.class, () -> {
+        var exception = assertThrows(IllegalArgumentException.class, () -> {
             businessCommandService.handle(command);
         });
 
-        verify(businessRepository).existsByName(command.name());
-        verify(businessRepository, never()).save(any(Business.class));
+        assertEquals("Business with same name already exists", exception.getMessage());
+        verify(businessRepository, times(1)).saveAndFlush(any(Business.class));
+        verify(businessSearchIndex, never()).index(any());
+    }
+
+    @Test
+    void createBusinessWithOtherIntegrityViolationRethrowsIt() {
+        // Arrange
+        CreateBusinessCommand command = new CreateBusinessCommand(
+                "Another Business",
+                "logo.jpg",
+                "Remodeling",
+                "123 Main St",
+                "Chicago",
+                "Business description",
+                1
+        );
+
+        when(businessRepository.saveAndFlush(any(Business.class))).thenThrow(new DataIntegrityViolationException("not null",
+                new ConstraintViolationException("Column cannot be null", new SQLException(), "businesses.city")));
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> businessCommandService.handle(command));
     }
 
     @Test
@@ -93,8 +122,7 @@ public class BusinessCommandServiceImplTest {
                 42
         );
 
-        when(businessRepository.existsByName(command.name())).thenReturn(false);
-        when(businessRepository.save(any(Business.class))).thenAnswer(invocation -> {
+        when(businessRepository.saveAndFlush(any(Business.class))).thenAnswer(invocation -> {
             Business savedBusiness = invocation.getArgument(0);
             return savedBusiness;
         });
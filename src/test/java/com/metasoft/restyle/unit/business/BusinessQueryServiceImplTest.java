@@ -5,7 +5,10 @@ import com.metasoft.restyle.platform.business.domain.model.aggregates.Business;
 import com.metasoft.restyle.platform.business.domain.model.commands.CreateBusinessCommand;
 import com.metasoft.restyle.platform.business.domain.model.queries.GetAllBusinessesQuery;
 import com.metasoft.restyle.platform.business.domain.model.queries.GetBusinessByIdQuery;
+import com.metasoft.restyle.platform.business.domain.model.queries.SearchBusinessesQuery;
 import com.metasoft.restyle.platform.business.infrastructure.persistance.jpa.BusinessRepository;
+import com.metasoft.restyle.platform.business.infrastructure.search.BusinessSearchHit;
+import com.metasoft.restyle.platform.business.infrastructure.search.BusinessSearchIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,11 +28,14 @@ public class BusinessQueryServiceImplTest {
     @Mock
     private BusinessRepository businessRepository;
 
+    @Mock
+    private BusinessSearchIndex businessSearchIndex;
+
     private BusinessQueryServiceImpl businessQueryService;
 
     @BeforeEach
     void setUp() {
-        businessQueryService = new BusinessQueryServiceImpl(businessRepository);
+        businessQueryService = new BusinessQueryServiceImpl(businessRepository, businessSearchIndex);
     }
 
     @Test
@@ -101,6 +107,36 @@ public class BusinessQueryServiceImplTest {
         });
     }
 
+    @Test
+    void searchBusinessesReturnsBusinessesInRankOrder() {
+        // Arrange
+        Business first = createSampleBusiness();
+        first.setId(7L);
+        Business second = createAnotherSampleBusiness();
+        second.setId(3L);
+        when(businessSearchIndex.search("remodeling", 10)).thenReturn(List.of(new BusinessSearchHit(7L, 2.5), new BusinessSearchHit(3L, 1.2)));
+        when(businessRepository.findAllById(List.of(7L, 3L))).thenReturn(List.of(second, first));
+
+        // Act
+        List<Business> result = businessQueryService.handle(new SearchBusinessesQuery("remodeling", 10));
+
+        // Assert
+        assertEquals(List.of(first, second), result);
+    }
+
+    @Test
+    void searchBusinessesWithoutMatchesDoesNotQueryRepository() {
+        // Arrange
+        when(businessSearchIndex.search("nothing", 10)).thenReturn(Collections.emptyList());
+
+        // Act
+        List<Business> result = businessQueryService.handle(new SearchBusinessesQuery("nothing", 10));
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(businessRepository);
+    }
+
     private Business createSampleBusiness() {
         CreateBusinessCommand command = new CreateBusinessCommand(
                 "Sample Business",
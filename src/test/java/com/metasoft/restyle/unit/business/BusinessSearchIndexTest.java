@@ -0,0 +1,121 @@
+package com.metasoft.restyle.unit.business;
+
+import com.metasoft.restyle.platform.business.domain.model.aggregates.Business;
+import com.metasoft.restyle.platform.business.domain.model.commands.CreateBusinessCommand;
+import com.metasoft.restyle.platform.business.infrastructure.search.BusinessSearchHit;
+import com.metasoft.restyle.platform.business.infrastructure.search.BusinessSearchIndex;
+import com.metasoft.restyle.platform.business.infrastructure.search.SearchTextAnalyzer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusinessSearchIndexTest {
+
+    private BusinessSearchIndex businessSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        businessSearchIndex = new BusinessSearchIndex();
+    }
+
+    @Test
+    void analyze_shouldLowercaseFoldAccentsAndDropStopWords() {
+        assertEquals(List.of("remodelacion", "banos", "cocinas", "2024"), SearchTextAnalyzer.analyze("Remodelación de BAÑOS y cocinas, 2024"));
+    }
+
+    @Test
+    void search_withUnaccentedWords_shouldMatchAccentedText() {
+        businessSearchIndex.index(business(1L, "Reformas Peña", "Carpintería", "Málaga", "Muebles a medida"));
+
+        var hits = businessSearchIndex.search("pena carpinteria malaga", 10);
+
+        assertEquals(List.of(1L), businessIds(hits));
+    }
+
+    @Test
+    void search_shouldRankNameMatchesAboveDescriptionMatches() {
+        businessSearchIndex.index(business(1L, "Construcciones Lima", "Albañilería", "Lima", "También hacemos cocinas"));
+        businessSearchIndex.index(business(2L, "Cocinas Modernas", "Diseño de cocinas", "Cusco", "Cocinas integrales"));
+        businessSearchIndex.index(business(3L, "Pinturas Andinas", "Pintura", "Arequipa", "Pintura de interiores"));
+
+        var hits = businessSearchIndex.search("cocinas", 10);
+
+        assertEquals(List.of(2L, 1L), businessIds(hits));
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+    }
+
+    @Test
+    void search_shouldRankBusinessesMatchingMoreWordsFirst() {
+        businessSearchIndex.index(business(1L, "Gasfitería Central", "Gasfitería", "Lima", "Instalaciones sanitarias"));
+        businessSearchIndex.index(business(2L, "Gasfitería Trujillo", "Gasfitería", "Trujillo", "Instalaciones sanitarias"));
+
+        var hits = businessSearchIndex.search("gasfiteria trujillo", 10);
+
+        assertEquals(List.of(2L, 1L), businessIds(hits));
+    }
+
+    @Test
+    void search_shouldReturnAtMostLimitHits() {
+        for (long id = 1; id <= 5; id++) {
+            businessSearchIndex.index(business(id, "Remodelaciones " + id, "Remodelación", "Lima", "Obras"));
+        }
+
+        var hits = businessSearchIndex.search("remodelaciones", 2);
+
+        assertEquals(2, hits.size());
+    }
+
+    @Test
+    void search_withOnlyStopWordsOrUnknownWords_shouldReturnNothing() {
+        businessSearchIndex.index(business(1L, "Reformas Lima", "Reformas", "Lima", "Obras de la casa"));
+
+        assertTrue(businessSearchIndex.search("de la", 10).isEmpty());
+        assertTrue(businessSearchIndex.search("jardineria", 10).isEmpty());
+    }
+
+    @Test
+    void index_withIndexedBusiness_shouldReplaceIt() {
+        businessSearchIndex.index(business(1L, "Pinturas Lima", "Pintura", "Lima", "Pintura de fachadas"));
+
+        businessSearchIndex.index(business(1L, "Vidrios Lima", "Vidriería", "Lima", "Ventanas y mamparas"));
+
+        assertTrue(businessSearchIndex.search("pintura", 10).isEmpty());
+        assertEquals(List.of(1L), businessIds(businessSearchIndex.search("vidrios", 10)));
+        assertEquals(1, businessSearchIndex.size());
+    }
+
+    @Test
+    void rebuild_shouldReplaceIndexedBusinesses() {
+        businessSearchIndex.index(business(1L, "Pinturas Lima", "Pintura", "Lima", "Pintura de fachadas"));
+
+        businessSearchIndex.rebuild(Stream.of(business(2L, "Pinturas Cusco", "Pintura", "Cusco", "Pintura de interiores")));
+
+        assertEquals(List.of(2L), businessIds(businessSearchIndex.search("pinturas", 10)));
+        assertEquals(1, businessSearchIndex.size());
+    }
+
+    @Test
+    void rebuild_shouldKeepBusinessesIndexedWhileRebuilding() {
+        var indexedDuringRebuild = business(2L, "Pinturas Cusco", "Pintura", "Cusco", "Pintura de interiores");
+        var stored = Stream.of(business(1L, "Pinturas Lima", "Pintura", "Lima", "Pintura de fachadas"))
+                .peek(business -> businessSearchIndex.index(indexedDuringRebuild));
+
+        businessSearchIndex.rebuild(stored);
+
+        assertEquals(List.of(1L, 2L), businessIds(businessSearchIndex.search("pintura", 10)).stream().sorted().toList());
+    }
+
+    private static Business business(Long id, String name, String expertise, String city, String description) {
+        var business = new Business(new CreateBusinessCommand(name, "image.png", expertise, "Av. Principal 123", city, description, 1));
+        business.setId(id);
+        return business;
+    }
+
+    private static List<Long> businessIds(List<BusinessSearchHit> hits) {
+        return hits.stream().map(BusinessSearchHit::businessId).toList();
+    }
+}
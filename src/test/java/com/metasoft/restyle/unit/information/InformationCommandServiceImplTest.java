@@ -62,10 +62,10 @@ public class InformationCommandServiceImplTest {
         }).when(remodelerRepository).save(any(Remodeler.class));
 
         // Act
-        Long remodelerId = remodelerCommandService.handle(command);
+        var remodeler = remodelerCommandService.handle(command);
 
         // Assert
-        assertEquals(1L, remodelerId);
+        assertEquals(1L, remodeler.orElseThrow().getId());
         verify(remodelerRepository, times(1)).save(any(Remodeler.class));
     }
 
@@ -92,10 +92,10 @@ public class InformationCommandServiceImplTest {
         }).when(contractorRepository).save(any(Contractor.class));
 
         // Act
-        Long contractorId = contractorCommandService.handle(command);
+        var contractor = contractorCommandService.handle(command);
 
         // Assert
-        assertEquals(2L, contractorId);
+        assertEquals(2L, contractor.orElseThrow().getId());
         verify(contractorRepository, times(1)).save(any(Contractor.class));
     }
 /*
@@ -126,6 +126,7 @@ public class InformationCommandServiceImplTest {
                 "Contractor description",
                 "+5566778899"
         );
+        when(contractorRepository.save(any(Contractor.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
         contractorCommandService.handle(command);
@@ -75,8 +75,8 @@ public class InformationQueryServiceImplTest {
     @Test
     void shouldGetRemodelerById() {
         // Arrange
-        when(remodelerRepository.findById(1L)).thenReturn(Optional.of(testRemodeler1));
-        when(remodelerRepository.findById(999L)).thenReturn(Optional.empty());
+        when(remodelerRepository.findWithProfileById(1L)).thenReturn(Optional.of(testRemodeler1));
+        when(remodelerRepository.findWithProfileById(999L)).thenReturn(Optional.empty());
 
         // Act
         var result = remodelerQueryService.handle(new GetRemodelerByIdQuery(1L));
@@ -89,15 +89,15 @@ public class InformationQueryServiceImplTest {
         assertEquals("PREMIUM", result.get().getSubscription());
 
         assertTrue(emptyResult.isEmpty());
-        verify(remodelerRepository, times(1)).findById(1L);
-        verify(remodelerRepository, times(1)).findById(999L);
+        verify(remodelerRepository, times(1)).findWithProfileById(1L);
+        verify(remodelerRepository, times(1)).findWithProfileById(999L);
     }
 
     @Test
     void shouldGetAllRemodelers() {
         // Arrange
         List<Remodeler> remodelers = Arrays.asList(testRemodeler1, testRemodeler2);
-        when(remodelerRepository.findAll()).thenReturn(remodelers);
+        when(remodelerRepository.findAllWithProfile()).thenReturn(remodelers);
 
         // Act
         List<Remodeler> result = remodelerQueryService.handle(new GetAllRemodelerQuery());
@@ -106,28 +106,28 @@ public class InformationQueryServiceImplTest {
         assertEquals(2, result.size());
         assertEquals("Professional Remodeler", result.get(0).getDescription());
         assertEquals("Home Remodeler", result.get(1).getDescription());
-        verify(remodelerRepository, times(1)).findAll();
+        verify(remodelerRepository, times(1)).findAllWithProfile();
     }
 
     @Test
     void shouldReturnEmptyListWhenNoRemodelers() {
         // Arrange
-        when(remodelerRepository.findAll()).thenReturn(Collections.emptyList());
+        when(remodelerRepository.findAllWithProfile()).thenReturn(Collections.emptyList());
 
         // Act
         List<Remodeler> result = remodelerQueryService.handle(new GetAllRemodelerQuery());
 
         // Assert
         assertTrue(result.isEmpty());
-        verify(remodelerRepository, times(1)).findAll();
+        verify(remodelerRepository, times(1)).findAllWithProfile();
     }
 
     // Contractor Query Service Tests
     @Test
     void shouldGetContractorById() {
         // Arrange
-        when(contractorRepository.findById(1L)).thenReturn(Optional.of(testContractor1));
-        when(contractorRepository.findById(999L)).thenReturn(Optional.empty());
+        when(contractorRepository.findWithProfileById(1L)).thenReturn(Optional.of(testContractor1));
+        when(contractorRepository.findWithProfileById(999L)).thenReturn(Optional.empty());
 
         // Act
         var result = contractorQueryService.handle(new GetContractorByIdQuery(1L));
@@ -139,15 +139,15 @@ public class InformationQueryServiceImplTest {
         assertEquals("+5551234567", result.get().getPhone());
 
         assertTrue(emptyResult.isEmpty());
-        verify(contractorRepository, times(1)).findById(1L);
-        verify(contractorRepository, times(1)).findById(999L);
+        verify(contractorRepository, times(1)).findWithProfileById(1L);
+        verify(contractorRepository, times(1)).findWithProfileById(999L);
     }
 
     @Test
     void shouldGetAllContractors() {
         // Arrange
         List<Contractor> contractors = Arrays.asList(testContractor1, testContractor2);
-        when(contractorRepository.findAll()).thenReturn(contractors);
+        when(contractorRepository.findAllWithProfile()).thenReturn(contractors);
 
         // Act
         List<Contractor> result = contractorQueryService.handle(new GetAllContractorQuery());
@@ -156,19 +156,19 @@ public class InformationQueryServiceImplTest {
         assertEquals(2, result.size());
         assertEquals("Specialized Contractor", result.get(0).getDescription());
         assertEquals("General Contractor", result.get(1).getDescription());
-        verify(contractorRepository, times(1)).findAll();
+        verify(contractorRepository, times(1)).findAllWithProfile();
     }
 
     @Test
     void shouldReturnEmptyListWhenNoContractors() {
         // Arrange
-        when(contractorRepository.findAll()).thenReturn(Collections.emptyList());
+        when(contractorRepository.findAllWithProfile()).thenReturn(Collections.emptyList());
 
         // Act
         List<Contractor> result = contractorQueryService.handle(new GetAllContractorQuery());
 
         // Assert
         assertTrue(result.isEmpty());
-        verify(contractorRepository, times(1)).findAll();
+        verify(contractorRepository, times(1)).findAllWithProfile();
     }
 }
\ No newline at end of file
@@ -3,15 +3,16 @@ package com.metasoft.restyle.unit.profile;
 import com.metasoft.restyle.platform.profiles.application.internal.commandservices.ProfileCommandServiceImpl;
 import com.metasoft.restyle.platform.profiles.domain.model.aggregates.Profile;
 import com.metasoft.restyle.platform.profiles.domain.model.commands.CreateProfileCommand;
-import com.metasoft.restyle.platform.profiles.domain.model.valueobjects.EmailAddress;
 import com.metasoft.restyle.platform.profiles.infrastructure.persistence.jpa.repositories.ProfileRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
 
-import java.util.Optional;
+import java.sql.SQLException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -42,9 +43,6 @@ public class ProfileCommandServiceImplTest {
                 "Smith"
         );
 
-        // Mock repository to return empty Optional (email doesn't exist)
-        when(profileRepository.findByEmail(any(EmailAddress.class))).thenReturn(Optional.empty());
-
         // Use doAnswer to set the ID on any profile that gets saved
         doAnswer(invocation -> {
             Profile profileToSave = invocation.getArgument(0);
@@ -57,15 +55,16 @@ public class ProfileCommandServiceImplTest {
                 fail("Reflection failed: " + e.getMessage());
             }
             return profileToSave;
-        }).when(profileRepository).save(any(Profile.class));
+        }).when(profileRepository).saveAndFlush(any(Profile.class));
 
         // Act
-        Long profileId = profileCommandService.handle(command);
+        var profile = profileCommandService.handle(command);
 
         // Assert
-        assertEquals(1L, profileId);
-        verify(profileRepository, times(1)).findByEmail(any(EmailAddress.class));
-        verify(profileRepository, times(1)).save(any(Profile.class));
+        assertTrue(profile.isPresent());
+        assertEquals(1L, profile.get().getId());
+        verify(profileRepository, times(1)).saveAndFlush(any(Profile.class));
+        verify(profileRepository, never()).findByEmail(any());
     }
 
     @Test
@@ -80,17 +79,9 @@ public class ProfileCommandServiceImplTest {
                 "Smith"
         );
 
-        // Mock existing profile with the same email
-        Profile existingProfile = new Profile(
-                "existing@example.com",
-                "DifferentPassword",
-                "CONTRACTOR",
-                "Existing",
-                "User",
-                "Name"
-        );
-
-        when(profileRepository.findByEmail(any(EmailAddress.class))).thenReturn(Optional.of(existingProfile));
+        // Mock the unique email constraint rejecting the insert
+        when(profileRepository.saveAndFlush(any(Profile.class))).thenThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("Duplicate entry", new SQLException(), "profiles." + Profile.EMAIL_UNIQUE_CONSTRAINT)));
 
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
@@ -99,7 +90,6 @@ public class ProfileCommandServiceImplTest {
         );
 
         assertTrue(exception.getMessage().contains("already exists"));
-        verify(profileRepository, times(1)).findByEmail(any(EmailAddress.class));
-        verify(profileRepository, never()).save(any(Profile.class));
+        verify(profileRepository, times(1)).saveAndFlush(any(Profile.class));
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ package com.metasoft.restyle.unit.project;
 import com.metasoft.restyle.platform.project.application.internal.commandservices.ProjectCommandServiceImpl;
 import com.metasoft.restyle.platform.project.domain.model.aggregates.Project;
 import com.metasoft.restyle.platform.project.domain.model.commands.CreateProjectCommand;
+import com.metasoft.restyle.platform.project.domain.model.commands.CreateProjectsCommand;
 import com.metasoft.restyle.platform.project.infrastructure.persistance.jpa.ProjectRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,6 +16,7 @@ import org.springframework.test.context.TestPropertySource;
 
 import java.util.Calendar;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,6 +29,7 @@ import static org.junit.jupiter.api.Assertions.*;
         "spring.datasource.password=",
         "spring.datasource.driver-class-name=org.h2.Driver",
         "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
         "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
 })
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
@@ -197,4 +200,56 @@ class ProjectCommandServiceImplTest {
         // Verify total count in database
         assertEquals(2, projectRepository.count());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldCreateProjectsInBulkAndRejectDuplicateNames() {
+        // Arrange
+        projectCommandService.handle(projectCommand("Existing Project"));
+        var command = new CreateProjectsCommand(List.of(
+                projectCommand("Bulk Project 1"),
+                projectCommand("Existing Project"),
+                projectCommand("Bulk Project 2"),
+                projectCommand("Bulk Project 1")));
+
+        // Act
+        var results = projectCommandService.handle(command);
+
+        // Assert
+        assertEquals(4, results.size());
+        assertTrue(results.get(0).isCreated());
+        assertNotNull(results.get(0).item().getId());
+        assertEquals("Project with same name already exists", results.get(1).error());
+        assertTrue(results.get(2).isCreated());
+        assertEquals("Project with same name already exists", results.get(3).error());
+        assertEquals(3, projectRepository.count());
+    }
+
+    @Test
+    void shouldRejectNamesRepeatedInBulkWithDifferentCaseOrAccents() {
+        // Arrange
+        var command = new CreateProjectsCommand(List.of(
+                projectCommand("Cocina"),
+                projectCommand("cocina"),
+                projectCommand("Cocína"),
+                projectCommand("Baño")));
+
+        // Act
+        var results = projectCommandService.handle(command);
+
+        // Assert
+        assertTrue(results.get(0).isCreated());
+        assertEquals("Project with same name already exists", results.get(1).error());
+        assertEquals("Project with same name already exists", results.get(2).error());
+        assertTrue(results.get(3).isCreated());
+        assertEquals(2, projectRepository.count());
+    }
+
+    @Test
+    void shouldRejectEmptyBulkCreate() {
+        assertThrows(IllegalArgumentException.class, () -> new CreateProjectsCommand(List.of()));
+    }
+
+    private CreateProjectCommand projectCommand(String name) {
+        return new CreateProjectCommand(name, "https://example.com/image.jpg", "Description", 1, 2, startDate, finishDate);
+    }
+}
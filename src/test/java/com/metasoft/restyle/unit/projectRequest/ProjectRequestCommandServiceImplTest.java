@@ -3,6 +3,7 @@ package com.metasoft.restyle.unit.projectRequest;
 import com.metasoft.restyle.platform.projectRequest.application.internal.commandservices.ProjectRequestCommandServiceImpl;
 import com.metasoft.restyle.platform.projectRequest.domain.model.aggregates.ProjectRequest;
 import com.metasoft.restyle.platform.projectRequest.domain.model.commands.CreateProjectRequestCommand;
+import com.metasoft.restyle.platform.projectRequest.domain.model.commands.CreateProjectRequestsCommand;
 import com.metasoft.restyle.platform.projectRequest.infrastructure.persistance.jpa.ProjectRequestRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +15,7 @@ import org.springframework.test.context.TestPropertySource;
 
 import java.util.Calendar;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,6 +28,7 @@ import static org.junit.jupiter.api.Assertions.*;
         "spring.datasource.password=",
         "spring.datasource.driver-class-name=org.h2.Driver",
         "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
         "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
 })
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
@@ -166,4 +169,45 @@ public class ProjectRequestCommandServiceImplTest {
         });
         assertEquals("email cannot be null or empty", emailException.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldCreateProjectRequestsInBulkAndRejectDuplicateNames() {
+        // Arrange
+        projectRequestCommandService.handle(projectRequestCommand("Existing Request"));
+        var command = new CreateProjectRequestsCommand(List.of(
+                projectRequestCommand("Bulk Request 1"),
+                projectRequestCommand("Existing Request"),
+                projectRequestCommand("Bulk Request 2")));
+
+        // Act
+        var results = projectRequestCommandService.handle(command);
+
+        // Assert
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isCreated());
+        assertEquals("Project Request with same name already exists", results.get(1).error());
+        assertTrue(results.get(2).isCreated());
+        assertEquals(3, projectRequestRepository.count());
+    }
+
+    @Test
+    void shouldRejectNamesRepeatedInBulkWithDifferentCaseOrAccents() {
+        // Arrange
+        var command = new CreateProjectRequestsCommand(List.of(
+                projectRequestCommand("Remodelación Cocina"),
+                projectRequestCommand("REMODELACION COCINA")));
+
+        // Act
+        var results = projectRequestCommandService.handle(command);
+
+        // Assert
+        assertTrue(results.get(0).isCreated());
+        assertEquals("Project Request with same name already exists", results.get(1).error());
+        assertEquals(1, projectRequestRepository.count());
+    }
+
+    private CreateProjectRequestCommand projectRequestCommand(String name) {
+        return new CreateProjectRequestCommand(name, "Smith", "john.smith@example.com", "123456789", "123 Test St",
+                "Test City", "Summary", 1, 2, deadlineDate, 3, 5000);
+    }
+}
@@ -4,7 +4,9 @@ import com.metasoft.restyle.platform.reviews.application.internal.commandservice
 import com.metasoft.restyle.platform.reviews.domain.model.aggregates.Review;
 import com.metasoft.restyle.platform.reviews.domain.model.commands.CreateReviewCommand;
 import com.metasoft.restyle.platform.reviews.domain.model.commands.DeleteReviewCommand;
+import com.metasoft.restyle.platform.reviews.domain.model.commands.RebuildContractorRatingSummariesCommand;
 import com.metasoft.restyle.platform.reviews.domain.model.commands.UpdateReviewCommand;
+import com.metasoft.restyle.platform.reviews.infrastructure.persistence.jpa.repositories.ContractorRatingSummaryRepository;
 import com.metasoft.restyle.platform.reviews.infrastructure.persistence.jpa.repositories.ReviewRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +14,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -23,6 +26,9 @@ public class ReviewCommandServiceImplTest {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private ContractorRatingSummaryRepository contractorRatingSummaryRepository;
+
     @InjectMocks
     private ReviewCommandServiceImpl reviewCommandService;
 
@@ -65,13 +71,33 @@ public class ReviewCommandServiceImplTest {
         });
 
         // Act
-        Long result = reviewCommandService.handle(command);
+        Optional<Review> result = reviewCommandService.handle(command);
 
         // Assert
-        assertEquals(REVIEW_ID, result);
+        assertTrue(result.isPresent());
+        assertEquals(REVIEW_ID, result.get().getId());
         verify(reviewRepository, times(1)).save(any(Review.class));
     }
 
+    @Test
+    void shouldReturnUpdatedReviewWithoutReadingItBack() {
+        // Arrange
+        UpdateReviewCommand command = new UpdateReviewCommand(
+                REVIEW_ID, "6 months", "Updated comment", "new-image-url.jpg"
+        );
+        when(reviewRepository.findById(REVIEW_ID)).thenReturn(Optional.of(testReview));
+        when(reviewRepository.save(testReview)).thenReturn(testReview);
+
+        // Act
+        Optional<Review> result = reviewCommandService.handle(command);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertSame(testReview, result.get());
+        verify(reviewRepository, times(1)).findById(REVIEW_ID);
+        verify(reviewRepository, times(1)).save(testReview);
+    }
+
     /*
     @Test
     void shouldUpdateReview() {
@@ -129,6 +155,69 @@ public class ReviewCommandServiceImplTest {
         verify(reviewRepository, times(1)).delete(testReview);
     }
 
+    @Test
+    void shouldAddRatingToContractorSummaryOnCreate() {
+        // Arrange
+        CreateReviewCommand command = new CreateReviewCommand(
+                1, 2, "3 months", 5, "Excellent service", "image-url.jpg"
+        );
+        when(reviewRepository.save(any(Review.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        reviewCommandService.handle(command);
+
+        // Assert
+        verify(contractorRatingSummaryRepository, times(1)).addRatings(argThat(ratings ->
+                ratings.getContractorId() == 1 && ratings.getReviewCount() == 1 && ratings.getRatingSum() == 5
+                        && ratings.getHistogram().equals(Map.of(1, 0L, 2, 0L, 3, 0L, 4, 0L, 5, 1L))));
+        verify(contractorRatingSummaryRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldRemoveRatingFromContractorSummaryOnDelete() {
+        // Arrange
+        when(reviewRepository.findById(REVIEW_ID)).thenReturn(Optional.of(testReview));
+
+        // Act
+        reviewCommandService.handle(new DeleteReviewCommand(REVIEW_ID));
+
+        // Assert
+        verify(contractorRatingSummaryRepository, times(1)).removeRatings(argThat(ratings ->
+                ratings.getContractorId() == 1 && ratings.getReviewCount() == 1 && ratings.getRatingSum() == 4
+                        && ratings.getFourStarCount() == 1));
+        verify(contractorRatingSummaryRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldNotTouchContractorSummaryOnUpdate() {
+        UpdateReviewCommand command = new UpdateReviewCommand(
+                REVIEW_ID, "6 months", "Updated comment", "new-image-url.jpg"
+        );
+        when(reviewRepository.findById(REVIEW_ID)).thenReturn(Optional.of(testReview));
+        when(reviewRepository.save(testReview)).thenReturn(testReview);
+
+        reviewCommandService.handle(command);
+
+        verifyNoInteractions(contractorRatingSummaryRepository);
+    }
+
+    @Test
+    void shouldRebuildContractorSummariesFromReviews() {
+        // Arrange
+        when(contractorRatingSummaryRepository.count()).thenReturn(2L);
+
+        // Act
+        var rebuilt = reviewCommandService.handle(new RebuildContractorRatingSummariesCommand());
+
+        // Assert
+        assertEquals(2, rebuilt);
+        var inOrder = inOrder(contractorRatingSummaryRepository);
+        inOrder.verify(contractorRatingSummaryRepository).rebuildFromReviews();
+        inOrder.verify(contractorRatingSummaryRepository).deleteWithoutReviews();
+        verify(contractorRatingSummaryRepository, never()).deleteAllInBatch();
+        verifyNoMoreInteractions(reviewRepository);
+    }
+
     @Test
     void shouldThrowExceptionWhenDeleteNonExistentReview() {
         // Arrange
@@ -2,17 +2,25 @@ package com.metasoft.restyle.unit.reviews;
 
 import com.metasoft.restyle.platform.reviews.application.internal.queryservices.ReviewQueryServiceImpl;
 import com.metasoft.restyle.platform.reviews.domain.model.aggregates.Review;
+import com.metasoft.restyle.platform.reviews.domain.model.entities.ContractorRatingSummary;
 import com.metasoft.restyle.platform.reviews.domain.model.queries.GetAllReviewsQuery;
+import com.metasoft.restyle.platform.reviews.domain.model.queries.GetContractorRatingSummaryQuery;
 import com.metasoft.restyle.platform.reviews.domain.model.queries.GetReviewByContractorIdAndProjectId;
 import com.metasoft.restyle.platform.reviews.domain.model.queries.GetReviewByIdQuery;
+import com.metasoft.restyle.platform.reviews.domain.model.queries.GetReviewsByContractorIdAndProjectIdQuery;
+import com.metasoft.restyle.platform.reviews.domain.model.queries.GetReviewsByContractorIdQuery;
+import com.metasoft.restyle.platform.reviews.domain.model.queries.GetReviewsByProjectIdQuery;
+import com.metasoft.restyle.platform.reviews.domain.model.queries.GetReviewsPageQuery;
 import com.metasoft.restyle.platform.reviews.domain.model.valueobjects.ContractorId;
 import com.metasoft.restyle.platform.reviews.domain.model.valueobjects.ProjectId;
+import com.metasoft.restyle.platform.reviews.infrastructure.persistence.jpa.repositories.ContractorRatingSummaryRepository;
 import com.metasoft.restyle.platform.reviews.infrastructure.persistence.jpa.repositories.ReviewRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 
 import java.util.Arrays;
 import java.util.List;
@@ -27,6 +35,9 @@ public class ReviewQueryServiceImplTest {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private ContractorRatingSummaryRepository contractorRatingSummaryRepository;
+
     @InjectMocks
     private ReviewQueryServiceImpl reviewQueryService;
 
@@ -130,4 +141,86 @@ public class ReviewQueryServiceImplTest {
         assertEquals(1L, result.get(0).getId());
         assertEquals(2L, result.get(1).getId());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturnPageWithNextKeyWhenMoreReviewsFollow() {
+        // Arrange
+        when(reviewRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2)))
+                .thenReturn(Arrays.asList(testReview1, testReview2));
+
+        // Act
+        var page = reviewQueryService.handle(new GetReviewsPageQuery(null, 1));
+
+        // Assert
+        assertEquals(List.of(testReview1), page.items());
+        assertEquals(1L, page.nextKey());
+    }
+
+    @Test
+    void shouldReturnLastPageWithoutNextKey() {
+        // Arrange
+        when(reviewRepository.findByIdGreaterThanOrderByIdAsc(1L, Limit.of(3)))
+                .thenReturn(List.of(testReview2));
+
+        // Act
+        var page = reviewQueryService.handle(new GetReviewsPageQuery(1L, 2));
+
+        // Assert
+        assertEquals(List.of(testReview2), page.items());
+        assertNull(page.nextKey());
+    }
+
+    @Test
+    void shouldReturnContractorRatingSummaryById() {
+        // Arrange
+        var summary = new ContractorRatingSummary(1, 0L, 1L, 0L, 0L, 1L);
+        when(contractorRatingSummaryRepository.findById(1)).thenReturn(Optional.of(summary));
+
+        // Act
+        var result = reviewQueryService.handle(new GetContractorRatingSummaryQuery(1));
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals(2, result.get().getReviewCount());
+        assertEquals(3.5, result.get().getMean());
+    }
+
+    @Test
+    void shouldReturnPageOfContractorReviewsWithNextKey() {
+        // Arrange
+        when(reviewRepository.findByContractorIdAndIdGreaterThanOrderByIdAsc(new ContractorId(1), 0L, Limit.of(2)))
+                .thenReturn(List.of(testReview1, testReview2));
+
+        // Act
+        var page = reviewQueryService.handle(new GetReviewsByContractorIdQuery(1, null, 1));
+
+        // Assert
+        assertEquals(List.of(testReview1), page.items());
+        assertEquals(1L, page.nextKey());
+    }
+
+    @Test
+    void shouldReturnLastPageOfProjectReviews() {
+        when(reviewRepository.findByProjectIdAndIdGreaterThanOrderByIdAsc(new ProjectId(2), 1L, Limit.of(3)))
+                .thenReturn(List.of(testReview2));
+
+        var page = reviewQueryService.handle(new GetReviewsByProjectIdQuery(2, 1L, 2));
+
+        assertEquals(List.of(testReview2), page.items());
+        assertNull(page.nextKey());
+    }
+
+    @Test
+    void shouldReturnPageOfContractorReviewsForProjectWithNextKey() {
+        // Arrange
+        when(reviewRepository.findByContractorIdAndProjectIdAndIdGreaterThanOrderByIdAsc(new ContractorId(1), new ProjectId(2), 0L, Limit.of(2)))
+                .thenReturn(List.of(testReview1, testReview2));
+
+        // Act
+        var page = reviewQueryService.handle(new GetReviewsByContractorIdAndProjectIdQuery(1, 2, null, 1));
+
+        // Assert
+        assertEquals(List.of(testReview1), page.items());
+        assertEquals(1L, page.nextKey());
+    }
+}
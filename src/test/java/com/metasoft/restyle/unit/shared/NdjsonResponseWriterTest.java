@@ -0,0 +1,61 @@
+package com.metasoft.restyle.unit.shared;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.metasoft.restyle.platform.shared.interfaces.rest.resources.MessageResource;
+import com.metasoft.restyle.platform.shared.interfaces.rest.streaming.NdjsonResponseWriter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NdjsonResponseWriterTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NdjsonResponseWriter ndjsonResponseWriter;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        ndjsonResponseWriter = new NdjsonResponseWriter(new ObjectMapper(), entityManager, transactionManager);
+    }
+
+    @Test
+    void write_shouldEmitOneLinePerEntityDetachEachAndCloseTheStream() throws Exception {
+        // Arrange
+        var closed = new AtomicBoolean();
+        var output = new ByteArrayOutputStream();
+
+        // Act
+        var response = ndjsonResponseWriter.write(
+                () -> Stream.of("first", "second").onClose(() -> closed.set(true)),
+                MessageResource::new);
+        response.getBody().writeTo(output);
+
+        // Assert
+        assertEquals("application/x-ndjson", response.getHeaders().getContentType().toString());
+        assertEquals("{\"message\":\"first\"}\n{\"message\":\"second\"}\n", output.toString(StandardCharsets.UTF_8));
+        verify(entityManager).detach("first");
+        verify(entityManager).detach("second");
+        verify(transactionManager).commit(any());
+        assertTrue(closed.get());
+    }
+}